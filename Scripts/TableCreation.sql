@@ -1,18 +1,6 @@
 --Tables Creation
-CREATE TABLE departments (
-                             id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-                             name VARCHAR(255) NOT NULL,
-                             code VARCHAR(10) NOT NULL UNIQUE
-);
-
-CREATE TABLE employees (
-                           id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
-                           name VARCHAR(255) NOT NULL,
-                           email VARCHAR(255) NOT NULL UNIQUE,
-                           salary NUMERIC(15,2) NOT NULL,
-                           joining_date DATE NOT NULL,
-                           department_id INTEGER NOT NULL REFERENCES departments(id)
-);
+-- Tables and indexes are created by the Flyway migrations in src/main/resources/db/migration
+-- when the application starts; run this script afterwards to load the mock data.
 
 --Mock Data Insertion
 INSERT INTO departments (name, code) VALUES
@@ -21,9 +9,21 @@ INSERT INTO departments (name, code) VALUES
                                          ('Engineering', 'EN01');
 
 INSERT INTO employees (name, email, salary, joining_date, department_id) VALUES
-                                                                             ('Alice Johnson', 'alice@example.com', 75000.00, '2018-04-15', 1),
-                                                                             ('Bob Smith', 'bob@example.com', 65000.00, '2020-09-10', 2),
-                                                                             ('Charlie Davis', 'charlie@example.com', 90000.00, '2015-01-05', 3),
-                                                                             ('Dana Lee', 'dana@example.com', 120000.00, '2012-06-20', 3);
+                                                                             ('Alice Johnson', 'alice@example.com', 75000.00, '2018-04-15', (SELECT id FROM departments WHERE code = 'HR01')),
+                                                                             ('Bob Smith', 'bob@example.com', 65000.00, '2020-09-10', (SELECT id FROM departments WHERE code = 'SA01')),
+                                                                             ('Charlie Davis', 'charlie@example.com', 90000.00, '2015-01-05', (SELECT id FROM departments WHERE code = 'EN01')),
+                                                                             ('Dana Lee', 'dana@example.com', 120000.00, '2012-06-20', (SELECT id FROM departments WHERE code = 'EN01'));
+
+--Department stats for the rows above (the service also fills empty stats tables on startup)
+INSERT INTO department_stats (department_id, headcount, total_salary, min_salary, max_salary)
+SELECT department_id, COUNT(*), SUM(salary), MIN(salary), MAX(salary) FROM employees GROUP BY department_id;
 
+INSERT INTO department_tenure_counts (department_id, joining_year, headcount)
+SELECT department_id, CAST(EXTRACT(YEAR FROM joining_date) AS INT), COUNT(*)
+FROM employees GROUP BY department_id, CAST(EXTRACT(YEAR FROM joining_date) AS INT);
 
+--Existing databases (ids created as IDENTITY): move id generation to the pooled sequences
+--CREATE SEQUENCE IF NOT EXISTS departments_seq INCREMENT BY 50;
+--SELECT setval('departments_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM departments));
+--CREATE SEQUENCE IF NOT EXISTS employees_seq INCREMENT BY 50;
+--SELECT setval('employees_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM employees));
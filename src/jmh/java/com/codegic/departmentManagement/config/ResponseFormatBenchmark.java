@@ -0,0 +1,106 @@
+package com.codegic.departmentManagement.config;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Encoding GET /employees for 100k rows in each negotiated format, with and without gzip, as the converters do
+// it (Boot's builder settings: JavaTimeModule, ISO dates). Bytes on the wire per combination are printed at setup.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ResponseFormatBenchmark {
+
+    private static final int EMPLOYEES = 100_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private List<EmployeeResponse> employees;
+    private ObjectWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        employees = new ArrayList<>(EMPLOYEES);
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            employees.add(new EmployeeResponse(
+                    id,
+                    "Employee " + id,
+                    "employee" + id + "@bench.example.com",
+                    BigDecimal.valueOf(3_000_000 + (id * 7919) % 15_000_000, 2),
+                    LocalDate.of(2010, 1, 1).plusDays(id % 5000),
+                    id % 10 + 1,
+                    "Department " + (id % 10 + 1)));
+        }
+        writer = new Jackson2ObjectMapperBuilder()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+
+        CountingOutputStream counter = new CountingOutputStream();
+        encode(counter);
+        System.out.printf("%n%s/%s: %,d bytes for %,d employees%n", format, encoding, counter.count, EMPLOYEES);
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        encode(counter);
+        return counter.count;
+    }
+
+    // Tomcat compresses with the JDK deflater at its default level, as GZIPOutputStream does
+    private void encode(OutputStream wire) throws IOException {
+        if (encoding.equals("gzip")) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(wire, 8192)) {
+                writer.writeValue(gzip, employees);
+            }
+        } else {
+            writer.writeValue(wire, employees);
+        }
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    // Bytes that would go out on the socket, without keeping them
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.DepartmentEmployeeServiceApplication;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import com.codegic.departmentManagement.util.IdempotencyStore;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+// Boots the service without the web layer against an in-memory H2 (Postgres mode) seeded with generated rows
+final class BenchmarkApplication {
+
+    static final int DEPARTMENTS = 10;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(int employees, String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                DepartmentEmployeeServiceApplication.class, BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "app.idempotency.store=benchmark",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+        seed(context.getBean(JdbcTemplate.class), employees);
+        return context;
+    }
+
+    // Set-based inserts; going through JPA would make seeding 1M rows dominate the run
+    private static void seed(JdbcTemplate jdbc, int employees) {
+        jdbc.update("""
+                INSERT INTO departments (id, name, code, version)
+                SELECT X, 'Department ' || X, 'D' || X, 0 FROM SYSTEM_RANGE(1, ?)
+                """, DEPARTMENTS);
+        jdbc.update("""
+                INSERT INTO employees (id, name, email, salary, joining_date, department_id, version)
+                SELECT X, 'Employee ' || X, 'employee' || X || '@bench.example.com',
+                       30000 + MOD(X * 7919, 150000), DATEADD('DAY', -MOD(X * 31, 5000), CURRENT_DATE),
+                       MOD(X, ?) + 1, 0
+                FROM SYSTEM_RANGE(1, ?)
+                """, DEPARTMENTS, employees);
+    }
+
+    // Adjustments are repeated every invocation, so the 30 minute guard is switched off
+    @Configuration(proxyBeanMethods = false)
+    static class BenchmarkConfig {
+        @Bean
+        IdempotencyStore idempotencyStore() {
+            return new IdempotencyStore() {
+                @Override
+                public boolean canAdjust(Long departmentId) {
+                    return true;
+                }
+
+                @Override
+                public Optional<SalaryAdjustmentResponse> findResult(String idempotencyKey) {
+                    return Optional.empty();
+                }
+
+                @Override
+                public void saveResult(String idempotencyKey, SalaryAdjustmentResponse result) {
+                }
+            };
+        }
+    }
+}
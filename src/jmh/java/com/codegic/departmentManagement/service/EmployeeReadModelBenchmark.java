@@ -0,0 +1,108 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.EmployeeSearchCriteria;
+import com.codegic.departmentManagement.dto.PageResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Lookups through the service proxies and JPA against the same lookups served by the read model. The heap the
+// model holds is printed at setup: used heap after a full GC, before and after warming it up, per employee.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class EmployeeReadModelBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeReadModel readModel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(employees, "app.read-model.enabled=true");
+        employeeService = context.getBean(EmployeeService.class);
+        readModel = context.getBean(EmployeeReadModel.class);
+
+        long before = usedHeap();
+        long started = System.nanoTime();
+        readModel.warmUp();
+        long warmUpMillis = (System.nanoTime() - started) / 1_000_000;
+        long footprint = usedHeap() - before;
+        System.out.printf("%nRead model: %d employees, warm-up %d ms, ~%d MB heap, ~%d bytes per employee%n",
+                employees, warmUpMillis, footprint / (1024 * 1024), footprint / employees);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse getEmployeeJpa() {
+        return employeeService.getEmployee(randomId());
+    }
+
+    @Benchmark
+    public EmployeeResponse getEmployeeReadModel() {
+        return readModel.getEmployee(randomId());
+    }
+
+    @Benchmark
+    public String getEmployeeVersionJpa() {
+        return employeeService.getEmployeeVersion(randomId());
+    }
+
+    @Benchmark
+    public String getEmployeeVersionReadModel() {
+        return readModel.getEmployeeVersion(randomId());
+    }
+
+    @Benchmark
+    public PageResponse<EmployeeResponse> searchByDepartmentJpa() {
+        return employeeService.searchEmployees(departmentPage());
+    }
+
+    @Benchmark
+    public PageResponse<EmployeeResponse> searchByDepartmentReadModel() {
+        return readModel.searchEmployees(departmentPage());
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> getAllEmployeesJpa() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> getAllEmployeesReadModel() {
+        return readModel.getAllEmployees();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, employees + 1);
+    }
+
+    private static EmployeeSearchCriteria departmentPage() {
+        return EmployeeSearchCriteria.builder()
+                .departmentId(ThreadLocalRandom.current().nextLong(1, BenchmarkApplication.DEPARTMENTS + 1))
+                .limit(50)
+                .build();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
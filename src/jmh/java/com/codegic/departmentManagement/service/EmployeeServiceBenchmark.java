@@ -0,0 +1,63 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// End to end through the service proxies and JPA; each adjustment covers one department (1/10 of the rows).
+// Salaries keep rising across invocations until they hit the cap, which is part of the steady state measured.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private int nextDepartment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(employees);
+        employeeService = context.getBean(EmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public SalaryAdjustmentResponse adjustSalariesPerEmployee() {
+        return employeeService.adjustSalaries(request(false));
+    }
+
+    @Benchmark
+    public SalaryAdjustmentResponse adjustSalariesInBulk() {
+        return employeeService.adjustSalaries(request(true));
+    }
+
+    private SalaryAdjustmentRequest request(boolean bulk) {
+        long departmentId = nextDepartment++ % BenchmarkApplication.DEPARTMENTS + 1;
+        return SalaryAdjustmentRequest.builder()
+                .departmentId(departmentId)
+                .performanceScore(95)
+                .bulk(bulk)
+                .build();
+    }
+}
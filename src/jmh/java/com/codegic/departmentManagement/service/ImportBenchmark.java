@@ -0,0 +1,69 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.ImportResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Upserts rows that already exist, so every invocation does the same amount of work
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImportBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"csv", "ndjson"})
+    private String format;
+
+    @Param({"100", "500", "1000"})
+    private int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private ImportService importService;
+    private MediaType contentType;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(ROWS);
+        importService = context.getBean(ImportService.class);
+
+        StringBuilder content = new StringBuilder();
+        if (format.equals("csv")) {
+            contentType = new MediaType("text", "csv");
+            content.append("name,email,salary,joiningDate,departmentId\n");
+            for (int i = 1; i <= ROWS; i++) {
+                content.append("Employee ").append(i).append(",employee").append(i).append("@bench.example.com,")
+                        .append(40_000 + i).append(",2020-01-01,").append(i % BenchmarkApplication.DEPARTMENTS + 1)
+                        .append('\n');
+            }
+        } else {
+            contentType = MediaType.APPLICATION_NDJSON;
+            for (int i = 1; i <= ROWS; i++) {
+                content.append("{\"name\":\"Employee ").append(i)
+                        .append("\",\"email\":\"employee").append(i).append("@bench.example.com\",\"salary\":")
+                        .append(40_000 + i).append(",\"joiningDate\":\"2020-01-01\",\"departmentId\":")
+                        .append(i % BenchmarkApplication.DEPARTMENTS + 1).append("}\n");
+            }
+        }
+        body = content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ImportResponse importEmployees() throws Exception {
+        return importService.importEmployees(new ByteArrayInputStream(body), contentType, chunkSize, true);
+    }
+}
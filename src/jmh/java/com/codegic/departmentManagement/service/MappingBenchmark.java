@@ -0,0 +1,79 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int listSize;
+
+    private final EmployeeService employeeService = new EmployeeService(null, null, null, null, null, null, null, null, null, null);
+    // Same defaults (JavaTimeModule, ISO dates) as the ObjectMapper Boot gives the controllers
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Department department;
+    private DepartmentResponse departmentResponse;
+    private Employee employee;
+    private List<EmployeeResponse> responses;
+
+    @Setup
+    public void setUp() {
+        department = Department.builder().id(7L).name("Engineering").code("ENG").build();
+        departmentResponse = DepartmentService.mapToResponse(department);
+        employee = Employee.builder()
+                .id(42L)
+                .name("Jane Doe")
+                .email("jane.doe@example.com")
+                .salary(new BigDecimal("85000.00"))
+                .joiningDate(LocalDate.of(2018, 3, 12))
+                .department(department)
+                .build();
+
+        responses = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            responses.add(EmployeeResponse.builder()
+                    .id((long) i)
+                    .name("Employee " + i)
+                    .email("employee" + i + "@example.com")
+                    .salary(BigDecimal.valueOf(30_000 + (i * 7919L) % 150_000, 2))
+                    .joiningDate(LocalDate.of(2015, 1, 1).plusDays(i % 3000))
+                    .departmentId(departmentResponse.getId())
+                    .departmentName(departmentResponse.getName())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public EmployeeResponse mapEmployee() {
+        return employeeService.mapToResponse(employee, departmentResponse);
+    }
+
+    @Benchmark
+    public DepartmentResponse mapDepartment() {
+        return DepartmentService.mapToResponse(department);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] serializeEmployeeList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
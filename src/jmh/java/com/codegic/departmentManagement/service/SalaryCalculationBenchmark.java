@@ -0,0 +1,85 @@
+package com.codegic.departmentManagement.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+// One department's worth of salaries per invocation: the BigDecimal formula the service used before
+// SalaryRules, the per-employee kernel call, and the kernel's array pass
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-XX:+UseParallelGC")
+@State(Scope.Benchmark)
+public class SalaryCalculationBenchmark {
+
+    @Param({"95", "75", "50"})
+    private int performanceScore;
+
+    @Param({"10000"})
+    private int departmentSize;
+
+    private final LocalDate today = LocalDate.now();
+    private BigDecimal[] salaries;
+    private LocalDate[] joiningDates;
+    private long[] salaryCents;
+    private long[] joiningEpochDays;
+    private long[] raisedCents;
+
+    @Setup
+    public void setUp() {
+        salaries = new BigDecimal[departmentSize];
+        joiningDates = new LocalDate[departmentSize];
+        salaryCents = new long[departmentSize];
+        joiningEpochDays = new long[departmentSize];
+        raisedCents = new long[departmentSize];
+        for (int i = 0; i < departmentSize; i++) {
+            salaries[i] = BigDecimal.valueOf(3_000_000 + (i * 7919L) % 15_000_000, 2);
+            joiningDates[i] = today.minusDays((i * 31L) % 5000);
+            salaryCents[i] = SalaryRules.toCents(salaries[i]);
+            joiningEpochDays[i] = joiningDates[i].toEpochDay();
+        }
+    }
+
+    @Benchmark
+    public int bigDecimalBaseline() {
+        int raises = 0;
+        for (int i = 0; i < departmentSize; i++) {
+            int percent = performanceScore >= 90 ? 15 : performanceScore >= 70 ? 10 : 0;
+            if (ChronoUnit.YEARS.between(joiningDates[i], LocalDate.now()) > 5) {
+                percent += 5;
+            }
+            BigDecimal raised = salaries[i].multiply(BigDecimal.ONE.add(
+                    BigDecimal.valueOf(percent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)));
+            if (raised.compareTo(BigDecimal.valueOf(200_000)) > 0) {
+                raised = BigDecimal.valueOf(200_000);
+            }
+            if (raised.compareTo(salaries[i]) > 0) {
+                raises++;
+            }
+        }
+        return raises;
+    }
+
+    @Benchmark
+    public int kernelPerEmployee() {
+        SalaryRules.Run run = SalaryRules.DEFAULT.forRun(performanceScore, today);
+        int raises = 0;
+        for (int i = 0; i < departmentSize; i++) {
+            if (run.raisedCents(salaryCents[i], run.isTenured(joiningEpochDays[i])) != SalaryRules.NO_RAISE) {
+                raises++;
+            }
+        }
+        return raises;
+    }
+
+    @Benchmark
+    public int kernelArrayPass() {
+        return SalaryRules.DEFAULT.forRun(performanceScore, today).apply(salaryCents, joiningEpochDays, raisedCents);
+    }
+}
@@ -0,0 +1,68 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import com.codegic.departmentManagement.dto.SalaryReviewRequest;
+import com.codegic.departmentManagement.dto.SalaryReviewResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// All departments adjusted through SalaryReviewService at each parallelism, against the one-by-one loop it replaces
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SalaryReviewBenchmark {
+
+    @Param({"100000"})
+    private int employees;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"false", "true"})
+    private boolean bulk;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private SalaryReviewService salaryReviewService;
+    private List<SalaryAdjustmentRequest> adjustments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(employees, "app.salary-review.parallelism=" + parallelism);
+        employeeService = context.getBean(EmployeeService.class);
+        salaryReviewService = context.getBean(SalaryReviewService.class);
+
+        adjustments = new ArrayList<>();
+        for (long id = 1; id <= BenchmarkApplication.DEPARTMENTS; id++) {
+            adjustments.add(SalaryAdjustmentRequest.builder().departmentId(id).performanceScore(95).bulk(bulk).build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SalaryReviewResponse parallelReview() {
+        return salaryReviewService.review(SalaryReviewRequest.builder().departments(adjustments).build());
+    }
+
+    @Benchmark
+    public long sequentialLoop() {
+        long updated = 0;
+        for (SalaryAdjustmentRequest adjustment : adjustments) {
+            SalaryAdjustmentResponse response = employeeService.adjustSalaries(adjustment);
+            updated += response.getRowsUpdated();
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,92 @@
+package com.codegic.departmentManagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+// Staleness policy for HTTP clients: a mutating request marks its client with a cookie, and the client's reads
+// stay on the primary until it expires, by which time the replica should have caught up. The cookie is set
+// before the request runs, since the response may be committed by then; a failed write only costs a few
+// primary reads. Clients that drop cookies get plain replica reads.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "primary-reads-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write && !window.isZero()) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(now + window.toMillis()))
+                    .path("/")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        if (!write && primaryReadsUntil(request) <= now) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.usePrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.reset();
+        }
+    }
+
+    // A streamed body is written on an async executor thread, outside this filter; the returned body takes the
+    // request thread's routing with it, so a client still inside its window streams from the primary too
+    public static StreamingResponseBody propagate(StreamingResponseBody body) {
+        if (!ReplicaRoutingDataSource.isPrimaryOnly()) {
+            return body;
+        }
+        return out -> {
+            ReplicaRoutingDataSource.usePrimary();
+            try {
+                body.writeTo(out);
+            } finally {
+                ReplicaRoutingDataSource.reset();
+            }
+        };
+    }
+
+    private static long primaryReadsUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
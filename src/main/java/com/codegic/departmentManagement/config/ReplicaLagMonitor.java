@@ -0,0 +1,59 @@
+package com.codegic.departmentManagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Staleness bound: takes the replica out of rotation while it lags the primary by more than max-lag, or
+// cannot be reached, and puts it back once it has caught up
+public final class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replica;
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaRoutingDataSource routingDataSource, Duration maxLag,
+                             String lagQuery, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica, NaN when it cannot be measured")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean available;
+        try {
+            Double lag = replica.queryForObject(lagQuery, Double.class);
+            lagSeconds = lag == null ? 0 : lag;
+            available = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (DataAccessException ex) {
+            lagSeconds = Double.NaN;
+            available = false;
+            log.debug("Replica lag check failed", ex);
+        }
+        if (routingDataSource.setReplicaAvailable(available)) {
+            if (available) {
+                log.info("Replica back in rotation, lag {}s", lagSeconds);
+            } else {
+                log.warn("Replica out of rotation, lag {}s exceeds {}; reads go to the primary", lagSeconds, maxLag);
+            }
+        }
+    }
+}
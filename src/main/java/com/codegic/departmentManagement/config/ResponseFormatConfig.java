@@ -0,0 +1,29 @@
+package com.codegic.departmentManagement.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/*
+ * CBOR and Smile converters for the collection endpoints (Accept: application/cbor or
+ * application/x-jackson-smile). Each mapper comes from Boot's prototype Jackson2ObjectMapperBuilder, so it
+ * has the modules and spring.jackson.* settings of the JSON mapper and writes BigDecimal and LocalDate the
+ * same way. As beans they take the place of the converters Spring MVC would build with default mappers.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ResponseFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
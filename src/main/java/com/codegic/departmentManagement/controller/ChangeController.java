@@ -0,0 +1,83 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.ChangeEventResponse;
+import com.codegic.departmentManagement.dto.ChangeFeedResponse;
+import com.codegic.departmentManagement.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Incremental sync for downstream systems: read from an offset, keep the returned nextOffset (or the last
+// SSE event id) and resume from it; offsets only grow and every committed change appears exactly once
+@RestController
+@Profile("!reactive")
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+public class ChangeController {
+
+    private static final int MAX_WAIT_SECONDS = 60;
+    private static final int STREAM_PAGE_SIZE = 500;
+
+    private final ChangeFeedService changeFeedService;
+
+    // Long-poll: with wait > 0 an empty read is held until new events arrive or the wait runs out
+    @GetMapping
+    public DeferredResult<ChangeFeedResponse> getChanges(@RequestParam(name = "since", defaultValue = "0") long since,
+                                                         @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                                         @RequestParam(name = "wait", defaultValue = "0") int waitSeconds) {
+        ChangeFeedResponse changes = changeFeedService.getChanges(since, limit);
+        int wait = Math.clamp(waitSeconds, 0, MAX_WAIT_SECONDS);
+        if (!changes.getEvents().isEmpty() || wait == 0) {
+            DeferredResult<ChangeFeedResponse> result = new DeferredResult<>();
+            result.setResult(changes);
+            return result;
+        }
+
+        DeferredResult<ChangeFeedResponse> result = new DeferredResult<>(TimeUnit.SECONDS.toMillis(wait), changes);
+        Runnable cancel = changeFeedService.onChangesAfter(since, () -> {
+            try {
+                result.setResult(changeFeedService.getChanges(since, limit));
+            } catch (RuntimeException ex) {
+                result.setErrorResult(ex);
+            }
+        });
+        result.onCompletion(cancel);
+        return result;
+    }
+
+    // Server-sent events, one per change with the offset as its id; a reconnecting EventSource sends
+    // Last-Event-ID and resumes after it. Each published batch goes out in a single write.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(name = "since", defaultValue = "0") long since,
+                                    @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter();
+        Runnable close = changeFeedService.subscribe(lastEventId != null ? lastEventId : since, STREAM_PAGE_SIZE,
+                events -> emitter.send(toSseEvents(events)),
+                emitter::completeWithError);
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+        return emitter;
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> toSseEvents(List<ChangeEventResponse> events) {
+        Set<ResponseBodyEmitter.DataWithMediaType> data = new LinkedHashSet<>();
+        for (ChangeEventResponse event : events) {
+            data.addAll(SseEmitter.event()
+                    .id(String.valueOf(event.getOffset()))
+                    .name("change")
+                    .data(event, MediaType.APPLICATION_JSON)
+                    .build());
+        }
+        return data;
+    }
+}
@@ -1,30 +1,64 @@
 package com.codegic.departmentManagement.controller;
 
+import com.codegic.departmentManagement.dto.DepartmentDeleteResponse;
 import com.codegic.departmentManagement.dto.DepartmentRequest;
 import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.DepartmentStatsResponse;
+import com.codegic.departmentManagement.dto.ImportResponse;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.dto.StatsReconcileResponse;
 import com.codegic.departmentManagement.service.DepartmentService;
+import com.codegic.departmentManagement.service.DepartmentStatsService;
+import com.codegic.departmentManagement.service.ImportService;
+import com.codegic.departmentManagement.util.ETags;
+import com.codegic.departmentManagement.util.MediaTypes;
+import com.codegic.departmentManagement.util.NdjsonResponseWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/departments")
 @RequiredArgsConstructor
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final DepartmentStatsService departmentStatsService;
+    private final ImportService importService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     @PostMapping
     public ResponseEntity<DepartmentResponse> createDepartment(@Valid @RequestBody DepartmentRequest request) {
         return ResponseEntity.ok(departmentService.createDepartment(request));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importDepartments(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(name = "chunkSize", required = false) Integer chunkSize) throws IOException {
+        return ResponseEntity.ok(importService.importDepartments(body, contentType, chunkSize));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentResponse> getDepartment(@PathVariable Long id) {
-        return ResponseEntity.ok(departmentService.getDepartment(id));
+    public ResponseEntity<DepartmentResponse> getDepartment(@PathVariable Long id, WebRequest webRequest) {
+        return conditional(departmentService.getDepartment(id), webRequest);
+    }
+
+    @GetMapping("/code/{code}")
+    public ResponseEntity<DepartmentResponse> getDepartmentByCode(@PathVariable String code, WebRequest webRequest) {
+        return conditional(departmentService.getDepartmentByCode(code), webRequest);
     }
 
     @PutMapping("/{id}")
@@ -34,14 +68,63 @@ public class DepartmentController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteDepartment(@PathVariable Long id,
-                                                 @RequestParam(name = "force", defaultValue = "false") boolean force) {
-        departmentService.deleteDepartment(id, force);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<DepartmentDeleteResponse> deleteDepartment(
+            @PathVariable Long id,
+            @RequestParam(name = "force", defaultValue = "false") boolean force) {
+        return ResponseEntity.ok(departmentService.deleteDepartment(id, force));
+    }
+
+    // The collection version is read first, so a change racing the listing only costs the client one extra reload.
+    // Collections are also offered as CBOR and Smile; JSON stays the answer to */* or no Accept header.
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.SMILE_VALUE})
+    public ResponseEntity<List<DepartmentResponse>> getAllDepartments(WebRequest webRequest) {
+        String eTag = ETags.weak(departmentService.getDepartmentsVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(departmentService.getAllDepartments());
+    }
+
+    @GetMapping(value = "/page",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.SMILE_VALUE})
+    public ResponseEntity<PageResponse<DepartmentResponse>> getDepartmentsPage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(departmentService.getDepartmentsPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDepartments() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.write(departmentService::streamAllDepartments));
+    }
+
+    @GetMapping(value = "/stats",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.SMILE_VALUE})
+    public ResponseEntity<List<DepartmentStatsResponse>> getAllDepartmentStats() {
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(departmentStatsService.getAllStats());
+    }
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<DepartmentStatsResponse> getDepartmentStats(@PathVariable Long id) {
+        return ResponseEntity.ok(departmentStatsService.getStats(id));
+    }
+
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<StatsReconcileResponse> reconcileDepartmentStats() {
+        return ResponseEntity.ok(departmentStatsService.reconcile());
     }
 
-    @GetMapping
-    public ResponseEntity<List<DepartmentResponse>> getAllDepartments() {
-        return ResponseEntity.ok(departmentService.getAllDepartments());
+    // Departments come from the cache with their version, so a 304 costs no query at all
+    private static ResponseEntity<DepartmentResponse> conditional(DepartmentResponse department, WebRequest webRequest) {
+        String eTag = ETags.weak(department.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(department);
     }
-}
\ No newline at end of file
+}
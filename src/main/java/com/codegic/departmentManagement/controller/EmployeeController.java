@@ -1,29 +1,90 @@
 package com.codegic.departmentManagement.controller;
 
+import com.codegic.departmentManagement.config.ReadYourWritesFilter;
 import com.codegic.departmentManagement.dto.*;
+import com.codegic.departmentManagement.service.EmployeeExportService;
+import com.codegic.departmentManagement.service.EmployeeReadModel;
+import com.codegic.departmentManagement.service.EmployeeReads;
 import com.codegic.departmentManagement.service.EmployeeService;
+import com.codegic.departmentManagement.service.ImportService;
+import com.codegic.departmentManagement.service.SalaryAdjustmentJobService;
+import com.codegic.departmentManagement.service.SalaryHistoryService;
+import com.codegic.departmentManagement.service.SalaryReviewService;
+import com.codegic.departmentManagement.util.ETags;
+import com.codegic.departmentManagement.util.MediaTypes;
+import com.codegic.departmentManagement.util.NdjsonResponseWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/employees")
 @RequiredArgsConstructor
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeReadModel employeeReadModel;
+    private final ImportService importService;
+    private final EmployeeExportService employeeExportService;
+    private final SalaryAdjustmentJobService salaryAdjustmentJobService;
+    private final SalaryReviewService salaryReviewService;
+    private final SalaryHistoryService salaryHistoryService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     @PostMapping
     public ResponseEntity<EmployeeResponse> createEmployee(@Valid @RequestBody EmployeeRequest request) {
         return ResponseEntity.ok(employeeService.createEmployee(request));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createEmployees(@RequestBody List<EmployeeRequest> requests,
+                                                         @RequestParam(name = "upsert", defaultValue = "false") boolean upsert) {
+        return ResponseEntity.ok(employeeService.createEmployees(requests, upsert));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importEmployees(
+            InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestParam(name = "chunkSize", required = false) Integer chunkSize,
+            @RequestParam(name = "upsert", defaultValue = "false") boolean upsert) throws IOException {
+        return ResponseEntity.ok(importService.importEmployees(body, contentType, chunkSize, upsert));
+    }
+
+    // If-None-Match is checked against the version columns alone; the response is only built when it changed
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployee(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployee(id));
+    public ResponseEntity<EmployeeResponse> getEmployee(@PathVariable Long id, WebRequest webRequest) {
+        EmployeeReads reads = reads();
+        String eTag = ETags.weak(reads.getEmployeeVersion(id));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(reads.getEmployee(id));
+    }
+
+    @GetMapping("/{id}/salary-history")
+    public ResponseEntity<PageResponse<SalaryHistoryResponse>> getSalaryHistory(
+            @PathVariable Long id,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(salaryHistoryService.getHistory(id, cursor, limit));
     }
 
     @PutMapping("/{id}")
@@ -38,14 +99,93 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    // Collections are also offered as CBOR and Smile; JSON stays the answer to */* or no Accept header
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.SMILE_VALUE})
+    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(WebRequest webRequest) {
+        EmployeeReads reads = reads();
+        String eTag = ETags.weak(reads.getEmployeesVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(reads.getAllEmployees());
+    }
+
+    @GetMapping(value = "/page",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.SMILE_VALUE})
+    public ResponseEntity<PageResponse<EmployeeResponse>> getEmployeesPage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(reads().getEmployeesPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/search",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.SMILE_VALUE})
+    public ResponseEntity<PageResponse<EmployeeResponse>> searchEmployees(@ModelAttribute EmployeeSearchCriteria criteria) {
+        EmployeeReads reads = EmployeeReadModel.canSearch(criteria) ? reads() : employeeService;
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(reads.searchEmployees(criteria));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonResponseWriter.write(employeeService::streamAllEmployees));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "departmentId", required = false) Long departmentId,
+            @RequestParam(name = "joinedFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(name = "joinedTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo) {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.fromParameter(format);
+        StreamingResponseBody body = ReadYourWritesFilter.propagate(out ->
+                employeeExportService.export(exportFormat, departmentId, joinedFrom, joinedTo, out));
+        return ResponseEntity.ok()
+                .contentType(exportFormat == EmployeeExportService.Format.CSV
+                        ? new MediaType("text", "csv")
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
     }
 
     @PostMapping("/adjust-salary")
-    public ResponseEntity<String> adjustSalary(@Valid @RequestBody SalaryAdjustmentRequest request) {
-        employeeService.adjustSalaries(request);
-        return ResponseEntity.ok("Salary adjustment completed successfully");
+    public ResponseEntity<SalaryAdjustmentResponse> adjustSalary(
+            @Valid @RequestBody SalaryAdjustmentRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        return ResponseEntity.ok(employeeService.adjustSalaries(request, idempotencyKey));
+    }
+
+    @PostMapping(value = "/adjust-salary", params = "async=true")
+    public ResponseEntity<SalaryAdjustmentJobResponse> submitSalaryAdjustment(
+            @Valid @RequestBody SalaryAdjustmentRequest request) {
+        SalaryAdjustmentJobResponse job = salaryAdjustmentJobService.submit(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/employees/adjust-salary/jobs/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @PostMapping("/adjust-salary/review")
+    public ResponseEntity<SalaryReviewResponse> reviewSalaries(@Valid @RequestBody SalaryReviewRequest request) {
+        return ResponseEntity.ok(salaryReviewService.review(request));
+    }
+
+    @GetMapping("/adjust-salary/jobs/{id}")
+    public ResponseEntity<SalaryAdjustmentJobResponse> getSalaryAdjustmentJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(salaryAdjustmentJobService.getJob(id));
+    }
+
+    @PostMapping("/adjust-salary/jobs/{id}/cancel")
+    public ResponseEntity<SalaryAdjustmentJobResponse> cancelSalaryAdjustmentJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(salaryAdjustmentJobService.cancel(id));
+    }
+
+    // In-memory once the optional read model is warm, the database otherwise
+    private EmployeeReads reads() {
+        return employeeReadModel.isServing() ? employeeReadModel : employeeService;
     }
-}
\ No newline at end of file
+}
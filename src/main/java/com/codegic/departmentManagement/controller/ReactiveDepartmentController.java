@@ -0,0 +1,46 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.repository.ReactiveReadRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Department reads on WebFlux; see ReactiveEmployeeController
+@RestController
+@RequestMapping("/departments")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveDepartmentController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    @GetMapping("/{id}")
+    public Mono<DepartmentResponse> getDepartment(@PathVariable Long id) {
+        return reactiveReadRepository.findDepartment(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Department not found")));
+    }
+
+    @GetMapping("/code/{code}")
+    public Mono<DepartmentResponse> getDepartmentByCode(@PathVariable String code) {
+        return reactiveReadRepository.findDepartmentByCode(code)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Department not found")));
+    }
+
+    @GetMapping
+    public Flux<DepartmentResponse> getAllDepartments() {
+        return reactiveReadRepository.findAllDepartments();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DepartmentResponse> streamAllDepartments() {
+        return reactiveReadRepository.findAllDepartments();
+    }
+}
@@ -0,0 +1,40 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.repository.ReactiveReadRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Employee reads on WebFlux; rows are written to the client as the database delivers them
+@RestController
+@RequestMapping("/employees")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveEmployeeController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    @GetMapping("/{id}")
+    public Mono<EmployeeResponse> getEmployee(@PathVariable Long id) {
+        return reactiveReadRepository.findEmployee(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Employee not found")));
+    }
+
+    @GetMapping
+    public Flux<EmployeeResponse> getAllEmployees() {
+        return reactiveReadRepository.findAllEmployees();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponse> streamAllEmployees() {
+        return reactiveReadRepository.findAllEmployees();
+    }
+}
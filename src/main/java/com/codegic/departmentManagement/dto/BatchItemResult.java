@@ -0,0 +1,29 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemResult {
+
+    public enum Status { CREATED, UPDATED, REJECTED }
+
+    private int index; // position of the item in the request array
+    private Status status;
+    private Long id;
+    private List<String> errors;
+
+    public static BatchItemResult of(int index, Status status, Long id, List<String> errors) {
+        return BatchItemResult.builder()
+                .index(index)
+                .status(status)
+                .id(id)
+                .errors(errors)
+                .build();
+    }
+}
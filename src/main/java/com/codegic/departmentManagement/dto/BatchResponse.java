@@ -0,0 +1,30 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchResponse {
+    private int created;
+    private int updated;
+    private int rejected;
+    private List<BatchItemResult> results;
+
+    public static BatchResponse of(List<BatchItemResult> results) {
+        return BatchResponse.builder()
+                .created(count(results, BatchItemResult.Status.CREATED))
+                .updated(count(results, BatchItemResult.Status.UPDATED))
+                .rejected(count(results, BatchItemResult.Status.REJECTED))
+                .results(results)
+                .build();
+    }
+
+    private static int count(List<BatchItemResult> results, BatchItemResult.Status status) {
+        return (int) results.stream().filter(item -> item.getStatus() == status).count();
+    }
+}
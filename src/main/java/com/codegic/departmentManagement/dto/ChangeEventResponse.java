@@ -0,0 +1,19 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventResponse {
+    private Long offset;
+    private String entityType;
+    private Long entityId;
+    private String operation;
+    private Long departmentId;
+    private Instant occurredAt;
+}
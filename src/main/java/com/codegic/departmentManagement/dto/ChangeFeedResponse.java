@@ -0,0 +1,15 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedResponse {
+    private List<ChangeEventResponse> events;
+    private long nextOffset; // pass back as ?since= to resume; unchanged when there was nothing new
+}
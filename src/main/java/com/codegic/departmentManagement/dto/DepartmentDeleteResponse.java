@@ -0,0 +1,13 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentDeleteResponse {
+    private Long departmentId;
+    private int employeesDeleted;
+}
@@ -1,6 +1,7 @@
 package com.codegic.departmentManagement.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 @Getter
@@ -13,5 +14,6 @@ public class DepartmentRequest {
     private String name;
 
     @NotBlank(message = "Department code is required")
+    @Size(max = 10, message = "Department code must be at most 10 characters")
     private String code;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.codegic.departmentManagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -11,4 +12,8 @@ public class DepartmentResponse {
     private Long id;
     private String name;
     private String code;
+
+    // Cached with the response so conditional GETs are answered without a query; sent as the ETag only
+    @JsonIgnore
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentStatsResponse {
+    private Long departmentId;
+    private long headcount;
+    private BigDecimal totalSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private BigDecimal averageSalary;
+    private Map<Integer, Long> tenureHistogram; // calendar years since joining -> headcount
+}
@@ -14,10 +14,12 @@ import java.time.LocalDate;
 public class EmployeeRequest {
 
     @NotBlank(message = "Employee name is required")
+    @Size(max = 255, message = "Employee name must be at most 255 characters")
     private String name;
 
     @Email(message = "Invalid email format")
     @NotBlank(message = "Email is required")
+    @Size(max = 255, message = "Email must be at most 255 characters")
     private String email;
 
     @DecimalMin(value = "0.01", message = "Salary must be greater than 0")
@@ -0,0 +1,32 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Query parameters of GET /employees/search; every filter is optional and they combine with AND
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSearchCriteria {
+    private Long departmentId;
+    private String name; // case-insensitive prefix
+    private String email;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedTo;
+
+    private String sort; // id (default), name, salary or joiningDate
+    private String direction; // asc (default) or desc
+    private String cursor;
+    private Integer limit;
+}
@@ -0,0 +1,15 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRejectedRow {
+    private long line;
+    private List<String> errors;
+}
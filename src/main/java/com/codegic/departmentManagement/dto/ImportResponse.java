@@ -0,0 +1,19 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResponse {
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private int chunksCommitted;
+    private List<ImportRejectedRow> rejectedRows;
+    private boolean rejectedRowsTruncated; // only the first rejected rows are listed
+}
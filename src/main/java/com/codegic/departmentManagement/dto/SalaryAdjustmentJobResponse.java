@@ -0,0 +1,24 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryAdjustmentJobResponse {
+    private UUID id;
+    private Long departmentId;
+    private int performanceScore;
+    private String status;
+    private long totalEmployees;
+    private long processedEmployees;
+    private long updatedEmployees;
+    private String error;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -17,4 +17,7 @@ public class SalaryAdjustmentRequest {
     @Min(value = 0, message = "Performance score must be between 0 and 100")
     @Max(value = 100, message = "Performance score must be between 0 and 100")
     private int performanceScore;
+
+    // Run the adjustment as a single set-based UPDATE instead of row by row
+    private boolean bulk;
 }
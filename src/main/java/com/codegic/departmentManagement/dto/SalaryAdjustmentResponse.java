@@ -0,0 +1,14 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryAdjustmentResponse {
+    private Long departmentId;
+    private long rowsUpdated;
+    private long rowsSkipped;
+}
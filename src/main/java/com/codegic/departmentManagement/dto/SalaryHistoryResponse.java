@@ -0,0 +1,24 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryHistoryResponse {
+    private Long id;
+    private Long employeeId;
+    private Long departmentId;
+    private String eventType;
+    private BigDecimal oldSalary;
+    private BigDecimal newSalary;
+    private String reason;
+    private UUID runId;
+    private Instant recordedAt;
+}
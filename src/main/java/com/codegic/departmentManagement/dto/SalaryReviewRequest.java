@@ -0,0 +1,29 @@
+package com.codegic.departmentManagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryReviewRequest {
+    // Departments with their own performance score
+    @Valid
+    private List<SalaryAdjustmentRequest> departments;
+
+    // Also adjust every department not listed above, using defaultPerformanceScore
+    private boolean allDepartments;
+
+    @Min(value = 0, message = "Performance score must be between 0 and 100")
+    @Max(value = 100, message = "Performance score must be between 0 and 100")
+    private Integer defaultPerformanceScore;
+
+    // Bulk mode for every department in the review, listed or covered by allDepartments
+    private boolean bulk;
+}
@@ -0,0 +1,40 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryReviewResponse {
+    private int departmentsAdjusted;
+    private int departmentsRejected;
+    private long rowsUpdated;
+    private long rowsSkipped;
+    private long elapsedMillis;
+    private List<SalaryReviewResult> results;
+
+    public static SalaryReviewResponse of(List<SalaryReviewResult> results, long elapsedMillis) {
+        int adjusted = 0;
+        long rowsUpdated = 0;
+        long rowsSkipped = 0;
+        for (SalaryReviewResult result : results) {
+            if (result.getStatus() == SalaryReviewResult.Status.ADJUSTED) {
+                adjusted++;
+                rowsUpdated += result.getRowsUpdated();
+                rowsSkipped += result.getRowsSkipped();
+            }
+        }
+        return SalaryReviewResponse.builder()
+                .departmentsAdjusted(adjusted)
+                .departmentsRejected(results.size() - adjusted)
+                .rowsUpdated(rowsUpdated)
+                .rowsSkipped(rowsSkipped)
+                .elapsedMillis(elapsedMillis)
+                .results(results)
+                .build();
+    }
+}
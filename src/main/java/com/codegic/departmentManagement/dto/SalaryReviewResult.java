@@ -0,0 +1,20 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryReviewResult {
+
+    public enum Status { ADJUSTED, CONFLICT, NOT_FOUND, FAILED }
+
+    private Long departmentId;
+    private int performanceScore;
+    private Status status;
+    private long rowsUpdated;
+    private long rowsSkipped;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.codegic.departmentManagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsReconcileResponse {
+    private int departmentsChecked;
+    private int departmentsDrifted;
+    private List<Long> driftedDepartmentIds;
+}
@@ -0,0 +1,50 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+// Outbox row: inserted with set-based SQL or JDBC batches in the mutating transaction, given its offset by
+// ChangeFeedRelay, and only read through JPA
+@Entity
+@Immutable
+@Table(name = "change_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEvent {
+
+    public enum EntityType { EMPLOYEE, DEPARTMENT }
+
+    public enum Operation { CREATED, UPDATED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    // No foreign key: deletions are events too
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Operation operation;
+
+    // The employee's department after the change; null for department events
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    // Position in the feed; null until the relay publishes the event
+    @Column(name = "change_offset", unique = true)
+    private Long changeOffset;
+}
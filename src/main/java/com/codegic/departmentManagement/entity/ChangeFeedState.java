@@ -0,0 +1,25 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Single row (id 1) serialising the relays of all replicas; mapped so the schema is validated, and
+// otherwise only read and written by ChangeFeedRelay over JDBC
+@Entity
+@Table(name = "change_feed_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedState {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastOffset;
+
+    @Column(nullable = false)
+    private Long purgedOffset;
+}
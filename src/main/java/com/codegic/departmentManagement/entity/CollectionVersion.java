@@ -0,0 +1,22 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Change counter of one collection endpoint; bumped over JDBC by CollectionVersions, read through JPA
+@Entity
+@Table(name = "collection_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CollectionVersion {
+
+    @Id
+    @Column(length = 20)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -4,7 +4,6 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
-
 @Entity
 @Table(name = "departments")
 @Getter
@@ -14,7 +13,8 @@ import lombok.*;
 @Builder
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50) // pooled, lets inserts batch
     private Long id;
 
     @NotBlank(message = "Department name is required")
@@ -24,4 +24,9 @@ public class Department {
     @NotBlank(message = "Department code is required")
     @Column(nullable = false, unique = true, length = 10)
     private String code;
+
+    // Optimistic lock; also the basis of the ETag served for this department
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
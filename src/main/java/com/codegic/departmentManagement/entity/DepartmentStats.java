@@ -0,0 +1,31 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+// Maintained per-department salary aggregates; changed incrementally by DepartmentStatsService
+@Entity
+@Table(name = "department_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentStats {
+    @Id
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private long headcount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalSalary;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal minSalary;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal maxSalary;
+}
@@ -0,0 +1,36 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// Headcount per department and joining year; tenure is derived from it at read time so it never ages
+@Entity
+@Table(name = "department_tenure_counts")
+@IdClass(DepartmentTenureCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentTenureCount {
+    @Id
+    private Long departmentId;
+
+    @Id
+    private int joiningYear;
+
+    @Column(nullable = false)
+    private long headcount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long departmentId;
+        private int joiningYear;
+    }
+}
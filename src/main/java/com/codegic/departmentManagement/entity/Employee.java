@@ -8,7 +8,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = @Index(name = "idx_employees_department_salary", columnList = "department_id, salary"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +16,8 @@ import java.time.LocalDate;
 @Builder
 public class Employee {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50) // pooled, lets inserts batch
     private Long id;
 
     @NotBlank(message = "Employee name is required")
@@ -38,4 +39,9 @@ public class Employee {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
+
+    // Optimistic lock; also the basis of the ETag served for this employee
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,61 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "salary_adjustment_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryAdjustmentJob {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private int performanceScore;
+
+    // Fixed when the job is submitted so a resumed job applies the same tenure cutoff
+    @Column(nullable = false)
+    private LocalDate asOfDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    private long totalEmployees;
+    private long processedEmployees;
+    private long updatedEmployees;
+
+    // Highest employee id of the last committed chunk; the job resumes after it
+    @Column(nullable = false)
+    private Long lastEmployeeId;
+
+    @Column(length = 2000)
+    private String error;
+
+    // Instance running the job; it renews the lease with every chunk, and others only take over once it expires
+    @Column(length = 100)
+    private String owner;
+
+    private Instant leaseExpiresAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,54 @@
+package com.codegic.departmentManagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+// Append-only: rows are inserted in JDBC batches by SalaryHistoryWriter or set-based SQL, and only read through JPA
+@Entity
+@Immutable
+@Table(name = "salary_history", indexes = @Index(name = "idx_salary_history_employee_id", columnList = "employee_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryHistory {
+
+    public enum EventType { SALARY_CHANGED, EMPLOYEE_DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // No foreign key: the history outlives the employee
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Long departmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal oldSalary;
+
+    // Null when the employee was deleted
+    @Column(precision = 15, scale = 2)
+    private BigDecimal newSalary;
+
+    @Column(nullable = false)
+    private String reason;
+
+    // Salary adjustment run (or job) that made the change, null for single edits
+    private UUID runId;
+
+    @Column(nullable = false)
+    private Instant recordedAt;
+}
@@ -0,0 +1,10 @@
+package com.codegic.departmentManagement.exception;
+
+// A request parameter or body the API rejects with 400, its message returned to the caller. Other
+// IllegalArgumentExceptions are programming errors and stay 500, so their messages are never echoed
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
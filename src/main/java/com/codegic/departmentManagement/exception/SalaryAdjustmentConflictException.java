@@ -0,0 +1,10 @@
+package com.codegic.departmentManagement.exception;
+
+// The department was already adjusted within the idempotency window, or the idempotency key belongs to another
+// department. Still an IllegalStateException, so the API answers 409 as before
+public class SalaryAdjustmentConflictException extends IllegalStateException {
+
+    public SalaryAdjustmentConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.entity.ChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    // Read-write on purpose, so it is never routed to a read replica behind the offsets the relay just reported
+    @Transactional
+    List<ChangeEvent> findByChangeOffsetGreaterThanOrderByChangeOffsetAsc(Long since, Limit limit);
+
+    // Outbox rows for EmployeeRepository.bulkAdjustSalaries, selected with the same predicate;
+    // must run first, in the same transaction, while the old salaries are still there
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO change_events (entity_type, entity_id, operation, department_id, occurred_at)
+            SELECT 'EMPLOYEE', id, 'UPDATED', department_id, CURRENT_TIMESTAMP
+            FROM employees
+            WHERE department_id = :departmentId
+              AND id > :afterId AND id <= :upToId
+              AND LEAST(salary * CASE WHEN joining_date <= :tenureCutoff
+                                      THEN :tenureMultiplier ELSE :baseMultiplier END, :cap) > salary
+            ORDER BY id
+            """, nativeQuery = true)
+    int recordBulkAdjustment(@Param("departmentId") Long departmentId,
+                             @Param("afterId") Long afterId,
+                             @Param("upToId") Long upToId,
+                             @Param("baseMultiplier") BigDecimal baseMultiplier,
+                             @Param("tenureMultiplier") BigDecimal tenureMultiplier,
+                             @Param("tenureCutoff") LocalDate tenureCutoff,
+                             @Param("cap") BigDecimal cap);
+
+    // One DELETED row per employee of a force-deleted department, before the bulk DELETE removes them
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO change_events (entity_type, entity_id, operation, department_id, occurred_at)
+            SELECT 'EMPLOYEE', id, 'DELETED', department_id, CURRENT_TIMESTAMP
+            FROM employees
+            WHERE department_id = :departmentId
+            ORDER BY id
+            """, nativeQuery = true)
+    int recordDepartmentDeletion(@Param("departmentId") Long departmentId);
+}
@@ -0,0 +1,14 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.entity.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, String> {
+
+    @Query("select v.version from CollectionVersion v where v.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+}
@@ -1,10 +1,50 @@
 package com.codegic.departmentManagement.repository;
 
 import com.codegic.departmentManagement.entity.Department;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+
+    // Read-write on purpose: DepartmentCache loads through these, and a read replica that has not caught up
+    // would put back the row an update just evicted
+    @Override
+    @Transactional
+    Optional<Department> findById(Long id);
+
+    @Transactional
     Optional<Department> findByCode(String code);
+
+    List<Department> findByCodeIn(Collection<String> codes);
+
+    List<Department> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Department> streamAllByOrderByIdAsc();
+
+    // Taken before a force delete; Postgres makes employee inserts into the department wait for it (FK key share)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from Department d where d.id = :id")
+    Optional<Department> findForUpdate(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Department d where d.id = :id")
+    int deleteInBulk(@Param("id") Long id);
+
+    @Query("select d.id from Department d order by d.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.entity.DepartmentStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface DepartmentStatsRepository extends JpaRepository<DepartmentStats, Long> {
+
+    interface SalaryAggregate {
+        long getHeadcount();
+
+        BigDecimal getTotalSalary();
+
+        BigDecimal getMinSalary();
+
+        BigDecimal getMaxSalary();
+    }
+
+    // Employee writes are flushed first so the aggregates below see them
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE department_stats
+            SET headcount = headcount + :count,
+                total_salary = total_salary + :total,
+                min_salary = CASE WHEN min_salary IS NULL OR :min < min_salary THEN :min ELSE min_salary END,
+                max_salary = CASE WHEN max_salary IS NULL OR :max > max_salary THEN :max ELSE max_salary END
+            WHERE department_id = :departmentId
+            """, nativeQuery = true)
+    int add(@Param("departmentId") Long departmentId,
+            @Param("count") long count,
+            @Param("total") BigDecimal total,
+            @Param("min") BigDecimal min,
+            @Param("max") BigDecimal max);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE department_stats
+            SET headcount = headcount - :count,
+                total_salary = total_salary - :total
+            WHERE department_id = :departmentId
+            """, nativeQuery = true)
+    int remove(@Param("departmentId") Long departmentId,
+               @Param("count") long count,
+               @Param("total") BigDecimal total);
+
+    // Only when a removed salary was the minimum or maximum; both lookups are (department_id, salary) index probes
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE department_stats
+            SET min_salary = (SELECT MIN(e.salary) FROM employees e WHERE e.department_id = :departmentId),
+                max_salary = (SELECT MAX(e.salary) FROM employees e WHERE e.department_id = :departmentId)
+            WHERE department_id = :departmentId
+              AND (min_salary >= :removedMin OR max_salary <= :removedMax)
+            """, nativeQuery = true)
+    int recomputeMinMaxIfRemoved(@Param("departmentId") Long departmentId,
+                                 @Param("removedMin") BigDecimal removedMin,
+                                 @Param("removedMax") BigDecimal removedMax);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE department_stats
+            SET total_salary = total_salary + :delta,
+                min_salary = :min,
+                max_salary = :max
+            WHERE department_id = :departmentId
+            """, nativeQuery = true)
+    int adjustSalaries(@Param("departmentId") Long departmentId,
+                       @Param("delta") BigDecimal delta,
+                       @Param("min") BigDecimal min,
+                       @Param("max") BigDecimal max);
+
+    // Salary aggregates rebuilt from the (department_id, salary) index, for writes that do not track deltas
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE department_stats
+            SET headcount = (SELECT COUNT(*) FROM employees e WHERE e.department_id = :departmentId),
+                total_salary = COALESCE((SELECT SUM(e.salary) FROM employees e WHERE e.department_id = :departmentId), 0),
+                min_salary = (SELECT MIN(e.salary) FROM employees e WHERE e.department_id = :departmentId),
+                max_salary = (SELECT MAX(e.salary) FROM employees e WHERE e.department_id = :departmentId)
+            WHERE department_id = :departmentId
+            """, nativeQuery = true)
+    int refresh(@Param("departmentId") Long departmentId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO department_stats (department_id, headcount, total_salary)
+            VALUES (:departmentId, 0, 0)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("departmentId") Long departmentId);
+
+    @Query(value = """
+            SELECT COUNT(*) AS headcount, COALESCE(SUM(salary), 0) AS totalSalary,
+                   MIN(salary) AS minSalary, MAX(salary) AS maxSalary
+            FROM employees
+            WHERE department_id = :departmentId
+            """, nativeQuery = true)
+    SalaryAggregate aggregate(@Param("departmentId") Long departmentId);
+
+    @Modifying
+    @Query("delete from DepartmentStats s where s.departmentId = :departmentId")
+    int deleteByDepartment(@Param("departmentId") Long departmentId);
+
+    // Held by the reconcile job while it compares a department, so concurrent deltas queue behind it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from DepartmentStats s where s.departmentId = :departmentId")
+    Optional<DepartmentStats> findForUpdate(@Param("departmentId") Long departmentId);
+}
@@ -0,0 +1,62 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.entity.DepartmentTenureCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface DepartmentTenureCountRepository
+        extends JpaRepository<DepartmentTenureCount, DepartmentTenureCount.Key> {
+
+    interface YearCount {
+        int getJoiningYear();
+
+        long getHeadcount();
+    }
+
+    List<DepartmentTenureCount> findByDepartmentIdAndHeadcountGreaterThan(Long departmentId, long headcount);
+
+    List<DepartmentTenureCount> findByHeadcountGreaterThan(long headcount);
+
+    @Modifying
+    @Query("""
+            update DepartmentTenureCount t set t.headcount = t.headcount + :delta
+            where t.departmentId = :departmentId and t.joiningYear = :joiningYear
+            """)
+    int increment(@Param("departmentId") Long departmentId,
+                  @Param("joiningYear") int joiningYear,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO department_tenure_counts (department_id, joining_year, headcount)
+            VALUES (:departmentId, :joiningYear, 0)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("departmentId") Long departmentId, @Param("joiningYear") int joiningYear);
+
+    @Modifying
+    @Query("delete from DepartmentTenureCount t where t.departmentId = :departmentId")
+    int deleteByDepartment(@Param("departmentId") Long departmentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO department_tenure_counts (department_id, joining_year, headcount)
+            SELECT department_id, CAST(EXTRACT(YEAR FROM joining_date) AS INT), COUNT(*)
+            FROM employees
+            WHERE department_id = :departmentId
+            GROUP BY department_id, CAST(EXTRACT(YEAR FROM joining_date) AS INT)
+            """, nativeQuery = true)
+    int rebuild(@Param("departmentId") Long departmentId);
+
+    @Query(value = """
+            SELECT CAST(EXTRACT(YEAR FROM joining_date) AS INT) AS joiningYear, COUNT(*) AS headcount
+            FROM employees
+            WHERE department_id = :departmentId
+            GROUP BY CAST(EXTRACT(YEAR FROM joining_date) AS INT)
+            """, nativeQuery = true)
+    List<YearCount> aggregate(@Param("departmentId") Long departmentId);
+}
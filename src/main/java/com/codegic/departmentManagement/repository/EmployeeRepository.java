@@ -1,10 +1,98 @@
 package com.codegic.departmentManagement.repository;
 
+import com.codegic.departmentManagement.dto.EmployeeResponse;
 import com.codegic.departmentManagement.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeSearchRepository {
     List<Employee> findByDepartmentId(Long departmentId);
+
+    long countByDepartmentId(Long departmentId);
+
+    boolean existsByDepartmentId(Long departmentId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Employee e where e.department.id = :departmentId")
+    int deleteByDepartmentInBulk(@Param("departmentId") Long departmentId);
+
+    List<Employee> findByEmailIn(Collection<String> emails);
+
+    // Read paths project straight into EmployeeResponse so the department name comes from the same join
+    String RESPONSE_SELECT = "select new com.codegic.departmentManagement.dto.EmployeeResponse("
+            + "e.id, e.name, e.email, e.salary, e.joiningDate, d.id, d.name) "
+            + "from Employee e join e.department d";
+
+    // What an EmployeeResponse is built from: the employee row and the department it shows the name of
+    interface ResponseVersion {
+        long getEmployeeVersion();
+
+        long getDepartmentVersion();
+    }
+
+    @Query("select e.version as employeeVersion, d.version as departmentVersion "
+            + "from Employee e join e.department d where e.id = :id")
+    Optional<ResponseVersion> findResponseVersionById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + " where e.id = :id")
+    Optional<EmployeeResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + " order by e.id")
+    List<EmployeeResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + " where e.id > :afterId order by e.id")
+    List<EmployeeResponse> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_SELECT + " order by e.id")
+    Stream<EmployeeResponse> streamAllResponses();
+
+    long countByDepartmentIdAndIdGreaterThanAndIdLessThanEqual(Long departmentId, Long afterId, Long upToId);
+
+    // Highest id of the next chunk of a department in id order, null once the department is exhausted
+    @Query(value = """
+            SELECT MAX(id) FROM (
+                SELECT id FROM employees
+                WHERE department_id = :departmentId AND id > :afterId
+                ORDER BY id
+                LIMIT :chunkSize
+            ) chunk
+            """, nativeQuery = true)
+    Long findChunkUpperBound(@Param("departmentId") Long departmentId,
+                             @Param("afterId") Long afterId,
+                             @Param("chunkSize") int chunkSize);
+
+    // Set-based salary adjustment over the id range (afterId, upToId]:
+    // tenure bonus for joining_date <= tenureCutoff, capped, increase only; bumps the version like a JPA update would
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE employees
+            SET salary = LEAST(salary * CASE WHEN joining_date <= :tenureCutoff
+                                             THEN :tenureMultiplier ELSE :baseMultiplier END, :cap),
+                version = version + 1
+            WHERE department_id = :departmentId
+              AND id > :afterId AND id <= :upToId
+              AND LEAST(salary * CASE WHEN joining_date <= :tenureCutoff
+                                      THEN :tenureMultiplier ELSE :baseMultiplier END, :cap) > salary
+            """, nativeQuery = true)
+    int bulkAdjustSalaries(@Param("departmentId") Long departmentId,
+                           @Param("afterId") Long afterId,
+                           @Param("upToId") Long upToId,
+                           @Param("baseMultiplier") BigDecimal baseMultiplier,
+                           @Param("tenureMultiplier") BigDecimal tenureMultiplier,
+                           @Param("tenureCutoff") LocalDate tenureCutoff,
+                           @Param("cap") BigDecimal cap);
 }
\ No newline at end of file
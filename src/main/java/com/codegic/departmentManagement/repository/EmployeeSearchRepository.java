@@ -0,0 +1,13 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.entity.Employee;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface EmployeeSearchRepository {
+    // Specification filters projected straight into EmployeeResponse, one statement per page
+    List<EmployeeResponse> search(Specification<Employee> specification, Sort sort, int limit);
+}
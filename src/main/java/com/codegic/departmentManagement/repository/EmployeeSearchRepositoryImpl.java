@@ -0,0 +1,42 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class EmployeeSearchRepositoryImpl implements EmployeeSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EmployeeResponse> search(Specification<Employee> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeResponse> query = cb.createQuery(EmployeeResponse.class);
+        Root<Employee> employee = query.from(Employee.class);
+        Join<Employee, Department> department = employee.join("department");
+
+        query.select(cb.construct(EmployeeResponse.class,
+                employee.get("id"), employee.get("name"), employee.get("email"), employee.get("salary"),
+                employee.get("joiningDate"), department.get("id"), department.get("name")));
+        Predicate predicate = specification.toPredicate(employee, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, employee, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
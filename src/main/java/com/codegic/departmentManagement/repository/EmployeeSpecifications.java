@@ -0,0 +1,116 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.Function;
+
+// Search filters over Employee; each one matches an index from V2__employee_search_indexes.sql
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> inDepartment(Long departmentId) {
+        return (root, query, cb) -> cb.equal(root.get("department").get("id"), departmentId);
+    }
+
+    // Served by the lower(name) text_pattern_ops index. Wildcards in the input are escaped with backslash,
+    // the default LIKE escape on Postgres and H2; an explicit ESCAPE clause would stop Postgres using the index
+    public static Specification<Employee> nameStartsWith(String prefix) {
+        String pattern = prefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern);
+    }
+
+    public static Specification<Employee> hasEmail(String email) {
+        return (root, query, cb) -> cb.equal(root.get("email"), email);
+    }
+
+    public static Specification<Employee> salaryAtLeast(BigDecimal min) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), min);
+    }
+
+    public static Specification<Employee> salaryAtMost(BigDecimal max) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), max);
+    }
+
+    public static Specification<Employee> joinedOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("joiningDate"), from);
+    }
+
+    public static Specification<Employee> joinedOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("joiningDate"), to);
+    }
+
+    // Rows after (value, id) in the page order; id breaks ties so the order is total.
+    // The cursor value is parsed here, so a malformed one fails before any query runs.
+    public static Specification<Employee> after(SortField field, Sort.Direction direction, String value, long id) {
+        return switch (field) {
+            case ID -> (root, query, cb) -> idAfter(root.get("id"), cb, direction, id);
+            case NAME -> after("name", value, direction, id);
+            case SALARY -> after("salary", new BigDecimal(value), direction, id);
+            case JOINING_DATE -> after("joiningDate", LocalDate.parse(value), direction, id);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Specification<Employee> after(String attribute, T value,
+                                                                                    Sort.Direction direction, long id) {
+        return (root, query, cb) -> {
+            Path<T> path = root.get(attribute);
+            Predicate beyond = direction.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            return cb.or(beyond, cb.and(cb.equal(path, value), idAfter(root.get("id"), cb, direction, id)));
+        };
+    }
+
+    private static Predicate idAfter(Path<Long> idPath, CriteriaBuilder cb, Sort.Direction direction, long id) {
+        return direction.isAscending() ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+    }
+
+    public enum SortField {
+        ID("id", row -> row.getId().toString()),
+        NAME("name", EmployeeResponse::getName),
+        SALARY("salary", row -> row.getSalary().toPlainString()),
+        JOINING_DATE("joiningDate", row -> row.getJoiningDate().toString());
+
+        private final String attribute;
+        private final Function<EmployeeResponse, String> value;
+
+        SortField(String attribute, Function<EmployeeResponse, String> value) {
+            this.attribute = attribute;
+            this.value = value;
+        }
+
+        public String attribute() {
+            return attribute;
+        }
+
+        // Sort value of a row, as stored in the page cursor
+        public String valueOf(EmployeeResponse row) {
+            return value.apply(row);
+        }
+
+        public static SortField fromParameter(String parameter) {
+            if (parameter == null || parameter.isBlank()) {
+                return ID;
+            }
+            for (SortField field : values()) {
+                if (field.attribute.equals(parameter)) {
+                    return field;
+                }
+            }
+            throw new BadRequestException("Unsupported sort: " + parameter);
+        }
+    }
+}
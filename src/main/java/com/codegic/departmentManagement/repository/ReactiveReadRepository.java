@@ -0,0 +1,88 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// R2DBC counterpart of the JPA read projections, producing the same DTOs for the reactive profile
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+
+    // Rows are pulled from the server in batches as subscribers request them, not all at once
+    private static final int FETCH_SIZE = 500;
+
+    private static final String EMPLOYEE_SELECT = """
+            SELECT e.id, e.name, e.email, e.salary, e.joining_date, d.id AS department_id, d.name AS department_name
+            FROM employees e JOIN departments d ON d.id = e.department_id
+            """;
+    private static final String DEPARTMENT_SELECT = "SELECT id, name, code, version FROM departments ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<EmployeeResponse> findEmployee(Long id) {
+        return databaseClient.sql(EMPLOYEE_SELECT + "WHERE e.id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toEmployee(row))
+                .one();
+    }
+
+    public Flux<EmployeeResponse> findAllEmployees() {
+        return databaseClient.sql(EMPLOYEE_SELECT + "ORDER BY e.id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map((row, metadata) -> toEmployee(row))
+                .all();
+    }
+
+    public Mono<DepartmentResponse> findDepartment(Long id) {
+        return databaseClient.sql(DEPARTMENT_SELECT + "WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toDepartment(row))
+                .one();
+    }
+
+    public Mono<DepartmentResponse> findDepartmentByCode(String code) {
+        return databaseClient.sql(DEPARTMENT_SELECT + "WHERE code = :code")
+                .bind("code", code)
+                .map((row, metadata) -> toDepartment(row))
+                .one();
+    }
+
+    public Flux<DepartmentResponse> findAllDepartments() {
+        return databaseClient.sql(DEPARTMENT_SELECT + "ORDER BY id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map((row, metadata) -> toDepartment(row))
+                .all();
+    }
+
+    private static EmployeeResponse toEmployee(Row row) {
+        return EmployeeResponse.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .salary(row.get("salary", BigDecimal.class))
+                .joiningDate(row.get("joining_date", LocalDate.class))
+                .departmentId(row.get("department_id", Long.class))
+                .departmentName(row.get("department_name", String.class))
+                .build();
+    }
+
+    private static DepartmentResponse toDepartment(Row row) {
+        return DepartmentResponse.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .code(row.get("code", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.entity.SalaryAdjustmentJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SalaryAdjustmentJobRepository extends JpaRepository<SalaryAdjustmentJob, UUID> {
+    List<SalaryAdjustmentJob> findByStatusIn(Collection<SalaryAdjustmentJob.Status> statuses);
+
+    // Conditional write, so of several instances looking at the same orphaned job exactly one gets it
+    @Modifying
+    @Query("""
+            update SalaryAdjustmentJob j set j.owner = :owner, j.leaseExpiresAt = :leaseExpiresAt
+            where j.id = :id and j.status in :statuses and (j.leaseExpiresAt is null or j.leaseExpiresAt < :now)
+            """)
+    int claim(@Param("id") UUID id,
+              @Param("statuses") Collection<SalaryAdjustmentJob.Status> statuses,
+              @Param("owner") String owner,
+              @Param("leaseExpiresAt") Instant leaseExpiresAt,
+              @Param("now") Instant now);
+
+    @Modifying
+    @Query("update SalaryAdjustmentJob j set j.leaseExpiresAt = null where j.id = :id and j.owner = :owner")
+    int release(@Param("id") UUID id, @Param("owner") String owner);
+
+    // Serialises chunk commits and cancellation, even if two nodes end up running the same job
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from SalaryAdjustmentJob j where j.id = :id")
+    Optional<SalaryAdjustmentJob> findForUpdate(@Param("id") UUID id);
+}
@@ -0,0 +1,53 @@
+package com.codegic.departmentManagement.repository;
+
+import com.codegic.departmentManagement.entity.SalaryHistory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalaryHistoryRepository extends JpaRepository<SalaryHistory, Long> {
+
+    List<SalaryHistory> findByEmployeeIdAndIdLessThanOrderByIdDesc(Long employeeId, Long beforeId, Limit limit);
+
+    // History of EmployeeRepository.bulkAdjustSalaries, computed with the same expression and predicate;
+    // must run first, in the same transaction, while the old salaries are still there
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO salary_history (employee_id, department_id, event_type, old_salary, new_salary, reason, run_id, recorded_at)
+            SELECT id, department_id, 'SALARY_CHANGED', salary,
+                   LEAST(salary * CASE WHEN joining_date <= :tenureCutoff
+                                       THEN :tenureMultiplier ELSE :baseMultiplier END, :cap),
+                   :reason, :runId, CURRENT_TIMESTAMP
+            FROM employees
+            WHERE department_id = :departmentId
+              AND id > :afterId AND id <= :upToId
+              AND LEAST(salary * CASE WHEN joining_date <= :tenureCutoff
+                                      THEN :tenureMultiplier ELSE :baseMultiplier END, :cap) > salary
+            """, nativeQuery = true)
+    int recordBulkAdjustment(@Param("departmentId") Long departmentId,
+                             @Param("afterId") Long afterId,
+                             @Param("upToId") Long upToId,
+                             @Param("baseMultiplier") BigDecimal baseMultiplier,
+                             @Param("tenureMultiplier") BigDecimal tenureMultiplier,
+                             @Param("tenureCutoff") LocalDate tenureCutoff,
+                             @Param("cap") BigDecimal cap,
+                             @Param("reason") String reason,
+                             @Param("runId") UUID runId);
+
+    // One audit row per employee of a force-deleted department, before the bulk DELETE removes them
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO salary_history (employee_id, department_id, event_type, old_salary, new_salary, reason, run_id, recorded_at)
+            SELECT id, department_id, 'EMPLOYEE_DELETED', salary, NULL, :reason, NULL, CURRENT_TIMESTAMP
+            FROM employees
+            WHERE department_id = :departmentId
+            """, nativeQuery = true)
+    int recordDepartmentDeletion(@Param("departmentId") Long departmentId, @Param("reason") String reason);
+}
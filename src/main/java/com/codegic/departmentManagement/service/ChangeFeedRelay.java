@@ -0,0 +1,155 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.ChangeEventResponse;
+import com.codegic.departmentManagement.entity.ChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Publishes committed outbox rows: each run takes the change_feed_state row lock, numbers up to batch-size
+ * waiting events from last_offset + 1 in id order and commits the offsets with the new last_offset.
+ * Every replica runs it; the lock makes them take turns, and a replica that did not publish still picks
+ * up last_offset to wake its own readers. Uses plain JDBC so it never shows up in Hibernate statistics.
+ */
+@Component
+public class ChangeFeedRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedRelay.class);
+
+    private static final String SELECT_UNPUBLISHED = """
+            SELECT id, entity_type, entity_id, operation, department_id, occurred_at
+            FROM change_events
+            WHERE change_offset IS NULL
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String LOCK_STATE = "SELECT last_offset FROM change_feed_state WHERE id = 1 FOR UPDATE";
+    // Seeded by V7; only missing where the schema is generated from the entities
+    private static final String CREATE_STATE = """
+            INSERT INTO change_feed_state (id, last_offset, purged_offset)
+            SELECT 1, 0, 0 WHERE NOT EXISTS (SELECT 1 FROM change_feed_state WHERE id = 1)
+            """;
+    private static final String READ_STATE = "SELECT last_offset, purged_offset FROM change_feed_state WHERE id = 1";
+    private static final String ASSIGN_OFFSET = "UPDATE change_events SET change_offset = ? WHERE id = ?";
+    private static final String UPDATE_LAST_OFFSET = "UPDATE change_feed_state SET last_offset = ? WHERE id = 1";
+    private static final String LAST_EXPIRED_OFFSET = """
+            SELECT MAX(change_offset) FROM change_events
+            WHERE change_offset IS NOT NULL AND occurred_at < ?
+            """;
+    private static final String DELETE_UP_TO = "DELETE FROM change_events WHERE change_offset <= ?";
+    private static final String UPDATE_PURGED_OFFSET =
+            "UPDATE change_feed_state SET purged_offset = ? WHERE id = 1 AND purged_offset < ?";
+
+    private static final RowMapper<ChangeEvent> EVENT_MAPPER = (rs, rowNum) -> ChangeEvent.builder()
+            .id(rs.getLong("id"))
+            .entityType(ChangeEvent.EntityType.valueOf(rs.getString("entity_type")))
+            .entityId(rs.getLong("entity_id"))
+            .operation(ChangeEvent.Operation.valueOf(rs.getString("operation")))
+            .departmentId(rs.getObject("department_id", Long.class))
+            .occurredAt(rs.getObject("occurred_at", OffsetDateTime.class).toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeFeedService changeFeedService;
+    private final int batchSize;
+    private final Duration retention;
+
+    public ChangeFeedRelay(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           ChangeFeedService changeFeedService,
+                           @Value("${app.changes.batch-size:500}") int batchSize,
+                           @Value("${app.changes.retention:7d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.changeFeedService = changeFeedService;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    // A full batch is followed straight away by the next one, so a backlog drains without waiting a delay each
+    @Scheduled(fixedDelayString = "${app.changes.relay-interval:200ms}")
+    public void relay() {
+        try {
+            List<ChangeEventResponse> batch;
+            do {
+                batch = transactionTemplate.execute(status -> publishBatch());
+                List<long[]> state = jdbcTemplate.query(READ_STATE,
+                        (rs, rowNum) -> new long[]{rs.getLong("last_offset"), rs.getLong("purged_offset")});
+                if (!state.isEmpty()) {
+                    changeFeedService.published(state.get(0)[0], state.get(0)[1], batch);
+                }
+            } while (batch.size() == batchSize);
+        } catch (DataAccessException ex) {
+            log.warn("Publishing change events failed, retrying on the next run", ex);
+        }
+    }
+
+    // Readers behind the purged offset get 409 and must resynchronise; offsets within a run of the purge
+    // are removed together, so a few events slightly younger than the retention may go with them
+    @Scheduled(fixedDelayString = "${app.changes.purge-interval:1h}")
+    public void purge() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(retention);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Long upTo = jdbcTemplate.queryForObject(LAST_EXPIRED_OFFSET, Long.class, cutoff);
+                if (upTo == null) {
+                    return;
+                }
+                lockState();
+                int deleted = jdbcTemplate.update(DELETE_UP_TO, upTo);
+                jdbcTemplate.update(UPDATE_PURGED_OFFSET, upTo, upTo);
+                log.info("Purged {} change events up to offset {}", deleted, upTo);
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Purging change events failed", ex);
+        }
+    }
+
+    private List<ChangeEventResponse> publishBatch() {
+        // Cheap check first, so an idle feed never takes the lock
+        if (jdbcTemplate.query(SELECT_UNPUBLISHED, EVENT_MAPPER, 1).isEmpty()) {
+            return List.of();
+        }
+        long lastOffset = lockState();
+        // Read under the lock: another replica may have published the rows seen above
+        List<ChangeEvent> events = jdbcTemplate.query(SELECT_UNPUBLISHED, EVENT_MAPPER, batchSize);
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<ChangeEventResponse> published = new ArrayList<>(events.size());
+        for (ChangeEvent event : events) {
+            event.setChangeOffset(++lastOffset);
+            published.add(ChangeFeedService.toResponse(event));
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_OFFSET, events, events.size(), (statement, event) -> {
+            statement.setLong(1, event.getChangeOffset());
+            statement.setLong(2, event.getId());
+        });
+        jdbcTemplate.update(UPDATE_LAST_OFFSET, lastOffset);
+        return published;
+    }
+
+    private long lockState() {
+        List<Long> lastOffset = jdbcTemplate.queryForList(LOCK_STATE, Long.class);
+        if (lastOffset.isEmpty()) {
+            jdbcTemplate.update(CREATE_STATE);
+            lastOffset = jdbcTemplate.queryForList(LOCK_STATE, Long.class);
+        }
+        return lastOffset.get(0);
+    }
+}
@@ -0,0 +1,362 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.ChangeEventResponse;
+import com.codegic.departmentManagement.dto.ChangeFeedResponse;
+import com.codegic.departmentManagement.entity.ChangeEvent;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.repository.ChangeEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * Change feed behind GET /changes, built on a transactional outbox:
+ * - every Employee/DepartmentService mutation adds its events to change_events in its own transaction,
+ *   so a rollback publishes nothing and a commit cannot lose its events;
+ * - ChangeFeedRelay gives committed events consecutive offsets and reports them through published(), which
+ *   wakes the long-poll and SSE readers waiting on this node.
+ * Offsets are only assigned after commit, so a reader resuming from its last offset never skips an event.
+ * In-process caches that cannot wait for the relay register a CommitListener and hear about this node's
+ * writes as soon as they commit. Recording also marks the collections changed in CollectionVersions.
+ * Events carry ids, not rows; consumers fetch what they still need.
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String INSERT = """
+            INSERT INTO change_events (entity_type, entity_id, operation, department_id, occurred_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String STORED_OFFSET = "SELECT last_offset FROM change_feed_state WHERE id = 1";
+
+    private final ChangeEventRepository changeEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CollectionVersions collectionVersions;
+    private final ThreadPoolTaskExecutor executor;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final List<CommitListener> commitListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Published published = new Published(0, 0, List.of());
+
+    public ChangeFeedService(ChangeEventRepository changeEventRepository,
+                             JdbcTemplate jdbcTemplate,
+                             CollectionVersions collectionVersions,
+                             @Value("${app.changes.notify-threads:2}") int notifyThreads) {
+        this.changeEventRepository = changeEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.collectionVersions = collectionVersions;
+
+        // Wakes waiting readers; most are caught up and served from the batch just published, without a query
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notifyThreads);
+        executor.setMaxPoolSize(notifyThreads);
+        executor.setThreadNamePrefix("change-feed-");
+        executor.initialize();
+    }
+
+    public static ChangeEvent employeeChanged(ChangeEvent.Operation operation, Long employeeId, Long departmentId) {
+        return event(ChangeEvent.EntityType.EMPLOYEE, operation, employeeId, departmentId);
+    }
+
+    public static ChangeEvent departmentChanged(ChangeEvent.Operation operation, Long departmentId) {
+        return event(ChangeEvent.EntityType.DEPARTMENT, operation, departmentId, null);
+    }
+
+    // Outbox rows in one JDBC batch, on the caller's connection and transaction
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.getEntityType().name());
+            statement.setLong(2, event.getEntityId());
+            statement.setString(3, event.getOperation().name());
+            statement.setObject(4, event.getDepartmentId());
+            statement.setObject(5, OffsetDateTime.ofInstant(event.getOccurredAt(), ZoneOffset.UTC));
+        });
+        if (events.stream().anyMatch(event -> event.getEntityType() == ChangeEvent.EntityType.DEPARTMENT)) {
+            collectionVersions.departmentsChanged();
+        } else {
+            collectionVersions.employeesChanged();
+        }
+        List<ChangeEvent> committed = List.copyOf(events);
+        afterCommit(listener -> listener.committed(committed));
+    }
+
+    // One UPDATED event per employee the bulk salary UPDATE is about to raise
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBulkAdjustment(Long departmentId, long afterId, long upToId, SalaryRules.Run run) {
+        changeEventRepository.recordBulkAdjustment(
+                departmentId,
+                afterId,
+                upToId,
+                run.baseMultiplier(),
+                run.tenuredMultiplier(),
+                run.tenureCutoff(),
+                run.cap());
+        collectionVersions.employeesChanged();
+        afterCommit(listener -> listener.committed(departmentId, afterId, upToId));
+    }
+
+    // One DELETED event per employee, before the department's employees are removed in bulk
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDepartmentDeletion(Long departmentId) {
+        changeEventRepository.recordDepartmentDeletion(departmentId);
+        collectionVersions.employeesChanged();
+        afterCommit(listener -> listener.committed(departmentId, 0, Long.MAX_VALUE));
+    }
+
+    // Events after the given offset, oldest first; empty (nextOffset == since) when there is nothing new yet
+    public ChangeFeedResponse getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new BadRequestException("since must not be negative");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        Published current = published;
+        if (since < current.purgedOffset()) {
+            throw new IllegalStateException("Changes up to offset " + current.purgedOffset()
+                    + " have been purged; resynchronise and resume from offset " + current.lastOffset());
+        }
+
+        List<ChangeEventResponse> events;
+        if (since >= current.lastOffset()) {
+            events = List.of();
+        } else if (current.covers(since)) {
+            events = current.after(since, pageSize);
+        } else {
+            events = changeEventRepository.findByChangeOffsetGreaterThanOrderByChangeOffsetAsc(since, Limit.of(pageSize))
+                    .stream()
+                    .map(ChangeFeedService::toResponse)
+                    .toList();
+        }
+        return ChangeFeedResponse.builder()
+                .events(events)
+                .nextOffset(events.isEmpty() ? since : events.get(events.size() - 1).getOffset())
+                .build();
+    }
+
+    public long latestOffset() {
+        return published.lastOffset();
+    }
+
+    // Last offset the relay committed, read from the database rather than this node's view of it
+    public long storedOffset() {
+        List<Long> lastOffset = jdbcTemplate.queryForList(STORED_OFFSET, Long.class);
+        return lastOffset.isEmpty() ? 0 : lastOffset.get(0);
+    }
+
+    public void addCommitListener(CommitListener listener) {
+        commitListeners.add(listener);
+    }
+
+    // Runs the listener once, on the notifier pool, when the feed moves past the offset; the handle cancels it
+    public Runnable onChangesAfter(long since, Runnable listener) {
+        Waiter waiter = new Waiter(since, listener);
+        waiters.add(waiter);
+        // The relay may have published between the caller's last read and the registration
+        if (published.lastOffset() > since) {
+            wake(waiter);
+        }
+        return () -> waiters.remove(waiter);
+    }
+
+    // Pushes every event after the offset to the sink, page by page, then each new batch as it is published.
+    // The first page is read on the caller thread, so an invalid or purged offset fails the request itself.
+    public Runnable subscribe(long since, int pageSize, ChangeSink sink, Consumer<Exception> onError) {
+        Subscription subscription = new Subscription(since, pageSize, sink, onError);
+        subscription.pump(getChanges(since, pageSize));
+        return subscription::close;
+    }
+
+    // Called by ChangeFeedRelay with the feed state after each run, and the events that run published
+    void published(long lastOffset, long purgedOffset, List<ChangeEventResponse> batch) {
+        Published previous = published;
+        if (lastOffset < previous.lastOffset()) {
+            return;
+        }
+        published = new Published(lastOffset, Math.max(purgedOffset, previous.purgedOffset()),
+                batch.isEmpty() ? previous.recent() : batch);
+        if (lastOffset > previous.lastOffset()) {
+            for (Waiter waiter : waiters) {
+                if (waiter.since < lastOffset) {
+                    wake(waiter);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // The writer's commit has already succeeded, so a failing listener is logged rather than thrown back at it
+    private void afterCommit(Consumer<CommitListener> notification) {
+        if (commitListeners.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (CommitListener listener : commitListeners) {
+                    try {
+                        notification.accept(listener);
+                    } catch (RuntimeException ex) {
+                        log.warn("Commit listener {} failed", listener, ex);
+                    }
+                }
+            }
+        });
+    }
+
+    private void wake(Waiter waiter) {
+        if (!waiters.remove(waiter)) {
+            return;
+        }
+        try {
+            executor.execute(waiter.listener);
+        } catch (TaskRejectedException ex) {
+            log.debug("Change feed is shutting down, not waking reader at offset {}", waiter.since);
+        }
+    }
+
+    static ChangeEventResponse toResponse(ChangeEvent event) {
+        return ChangeEventResponse.builder()
+                .offset(event.getChangeOffset())
+                .entityType(event.getEntityType().name())
+                .entityId(event.getEntityId())
+                .operation(event.getOperation().name())
+                .departmentId(event.getDepartmentId())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    private static ChangeEvent event(ChangeEvent.EntityType entityType, ChangeEvent.Operation operation,
+                                     Long entityId, Long departmentId) {
+        return ChangeEvent.builder()
+                .entityType(entityType)
+                .operation(operation)
+                .entityId(entityId)
+                .departmentId(departmentId)
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    @FunctionalInterface
+    public interface ChangeSink {
+        void send(List<ChangeEventResponse> events) throws IOException;
+    }
+
+    // Runs on the writing thread after its transaction commits, before the events have offsets
+    public interface CommitListener {
+        void committed(List<ChangeEvent> events);
+
+        // Set-based change to the department's employees with ids in (afterId, upToId]
+        void committed(Long departmentId, long afterId, long upToId);
+    }
+
+    // Offsets within one relay batch are consecutive, so a reader inside it is served by index
+    private record Published(long lastOffset, long purgedOffset, List<ChangeEventResponse> recent) {
+
+        boolean covers(long since) {
+            return !recent.isEmpty()
+                    && recent.get(0).getOffset() - 1 <= since
+                    && recent.get(recent.size() - 1).getOffset() == lastOffset;
+        }
+
+        List<ChangeEventResponse> after(long since, int limit) {
+            int from = (int) (since - recent.get(0).getOffset() + 1);
+            return recent.subList(from, Math.min(recent.size(), from + limit));
+        }
+    }
+
+    // Identity equality on purpose: two readers waiting on the same offset are two waiters
+    private static final class Waiter {
+        private final long since;
+        private final Runnable listener;
+
+        private Waiter(long since, Runnable listener) {
+            this.since = since;
+            this.listener = listener;
+        }
+    }
+
+    private final class Subscription implements Runnable {
+        private final int pageSize;
+        private final ChangeSink sink;
+        private final Consumer<Exception> onError;
+        private long cursor;
+        private volatile boolean closed;
+        private volatile Runnable cancelWait = () -> { };
+
+        private Subscription(long since, int pageSize, ChangeSink sink, Consumer<Exception> onError) {
+            this.cursor = since;
+            this.pageSize = pageSize;
+            this.sink = sink;
+            this.onError = onError;
+        }
+
+        @Override
+        public void run() {
+            try {
+                pump(getChanges(cursor, pageSize));
+            } catch (RuntimeException ex) {
+                fail(ex);
+            }
+        }
+
+        // Only ever runs on one thread at a time: the next run is scheduled by the wait registered at the end
+        private void pump(ChangeFeedResponse changes) {
+            try {
+                while (!closed && !changes.getEvents().isEmpty()) {
+                    sink.send(changes.getEvents());
+                    cursor = changes.getNextOffset();
+                    changes = getChanges(cursor, pageSize);
+                }
+            } catch (IOException ex) {
+                fail(ex);
+                return;
+            }
+            if (!closed) {
+                cancelWait = onChangesAfter(cursor, this);
+                if (closed) {
+                    cancelWait.run();
+                }
+            }
+        }
+
+        private void fail(Exception ex) {
+            close();
+            onError.accept(ex);
+        }
+
+        private void close() {
+            closed = true;
+            cancelWait.run();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.repository.CollectionVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+ * Change counters behind the collection ETags of GET /employees and GET /departments:
+ * - ChangeFeedService marks a collection changed whenever it records an event for it, so every service write
+ *   counts; a write that bypasses the services (ad-hoc SQL) leaves the ETags as they were;
+ * - each changed counter is bumped once per transaction, in beforeCommit and always in the same order, so
+ *   writers only queue on the row while committing and never deadlock over the two rows;
+ * - a rollback bumps nothing, and unlike a count/sum fingerprint of the table, a delete plus an insert that
+ *   happen to balance out still moves the counter.
+ * Department changes bump both, since every employee response carries its department's name.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollectionVersions {
+
+    private static final String INCREMENT = "UPDATE collection_versions SET version = version + 1 WHERE name = ?";
+    // Seeded by V10; only missing where the schema is generated from the entities
+    private static final String CREATE = "INSERT INTO collection_versions (name, version) VALUES (?, 0) ON CONFLICT DO NOTHING";
+
+    private enum Collection { DEPARTMENTS, EMPLOYEES }
+
+    private final CollectionVersionRepository collectionVersionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public long employees() {
+        return version(Collection.EMPLOYEES);
+    }
+
+    public long departments() {
+        return version(Collection.DEPARTMENTS);
+    }
+
+    public void employeesChanged() {
+        changed(EnumSet.of(Collection.EMPLOYEES));
+    }
+
+    public void departmentsChanged() {
+        changed(EnumSet.of(Collection.DEPARTMENTS, Collection.EMPLOYEES));
+    }
+
+    private long version(Collection collection) {
+        return collectionVersionRepository.findVersionByName(name(collection)).orElse(0L);
+    }
+
+    // One synchronization per transaction; a REQUIRES_NEW transaction has its own list and gets its own
+    private void changed(Set<Collection> collections) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Bump bump) {
+                bump.collections.addAll(collections);
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new Bump(collections));
+    }
+
+    private static String name(Collection collection) {
+        return collection.name().toLowerCase(Locale.ROOT);
+    }
+
+    private final class Bump implements TransactionSynchronization {
+
+        private final Set<Collection> collections;
+
+        private Bump(Set<Collection> collections) {
+            this.collections = EnumSet.copyOf(collections);
+        }
+
+        // EnumSet iterates in declaration order, which is the lock order
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            for (Collection collection : collections) {
+                String name = name(collection);
+                if (jdbcTemplate.update(INCREMENT, name) == 0) {
+                    jdbcTemplate.update(CREATE, name);
+                    jdbcTemplate.update(INCREMENT, name);
+                }
+            }
+        }
+    }
+}
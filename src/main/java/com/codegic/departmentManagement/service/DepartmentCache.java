@@ -0,0 +1,61 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+// Read-through cache in front of DepartmentRepository; holds responses, never managed entities
+@Component
+@RequiredArgsConstructor
+public class DepartmentCache {
+
+    public static final String BY_ID = "departments";
+    public static final String BY_CODE = "departmentsByCode";
+
+    private final DepartmentRepository departmentRepository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(cacheNames = BY_ID, unless = "#result == null")
+    public Optional<DepartmentResponse> findById(Long id) {
+        return departmentRepository.findById(id).map(DepartmentService::mapToResponse);
+    }
+
+    @Cacheable(cacheNames = BY_CODE, unless = "#result == null")
+    public Optional<DepartmentResponse> findByCode(String code) {
+        return departmentRepository.findByCode(code).map(DepartmentService::mapToResponse);
+    }
+
+    // Evicts the department under its id and the code it had before the change. Empty lookups are never cached
+    // (#result is the unwrapped Optional), so a new code has no entry to evict. Evicts now and again once the
+    // surrounding transaction completes, so a concurrent read cannot re-cache the old row in between
+    public void evict(Long id, String code) {
+        evictNow(id, code);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id, code);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long id, String code) {
+        Cache byId = cacheManager.getCache(BY_ID);
+        if (byId != null) {
+            byId.evict(id);
+        }
+        Cache byCode = cacheManager.getCache(BY_CODE);
+        if (byCode != null) {
+            byCode.evict(code);
+        }
+    }
+}
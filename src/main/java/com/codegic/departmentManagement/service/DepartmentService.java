@@ -1,94 +1,227 @@
 package com.codegic.departmentManagement.service;
 
+import com.codegic.departmentManagement.dto.BatchItemResult;
+import com.codegic.departmentManagement.dto.BatchResponse;
+import com.codegic.departmentManagement.dto.DepartmentDeleteResponse;
 import com.codegic.departmentManagement.dto.DepartmentRequest;
 import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.entity.ChangeEvent;
 import com.codegic.departmentManagement.entity.Department;
-import com.codegic.departmentManagement.entity.Employee;
 import com.codegic.departmentManagement.repository.DepartmentRepository;
 import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.codegic.departmentManagement.repository.SalaryHistoryRepository;
+import com.codegic.departmentManagement.util.CursorCodec;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = ServiceMetrics.TIMER, histogram = true)
 public class DepartmentService {
 
     private static final Logger log = LoggerFactory.getLogger(DepartmentService.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
-
+    private final SalaryHistoryRepository salaryHistoryRepository;
+    private final ChangeFeedService changeFeedService;
+    private final CollectionVersions collectionVersions;
+    private final EntityManager entityManager;
+    private final DepartmentCache departmentCache;
+    private final DepartmentStatsService departmentStatsService;
+    private final Validator validator;
+
+    @Transactional
     public DepartmentResponse createDepartment(DepartmentRequest request) {
         Department department = Department.builder()
                 .name(request.getName())
                 .code(request.getCode())
                 .build();
         Department saved = departmentRepository.save(department);
+        changeFeedService.record(List.of(
+                ChangeFeedService.departmentChanged(ChangeEvent.Operation.CREATED, saved.getId())));
         return mapToResponse(saved);
     }
 
+    // Batch create: existing codes resolved in one query, inserts flushed in JDBC batches
+    @Transactional
+    public BatchResponse createDepartments(List<DepartmentRequest> requests) {
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            DepartmentRequest request = requests.get(i);
+            List<String> errors = request == null
+                    ? List.of("Department entry is required")
+                    : validator.validate(request).stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .collect(Collectors.toList());
+            if (errors.isEmpty() && !codes.add(request.getCode())) {
+                errors = List.of("code: Duplicate code in batch");
+            }
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.of(i, BatchItemResult.Status.REJECTED, null, errors);
+            }
+        }
+
+        Set<String> existingCodes = codes.isEmpty() ? Set.of() : departmentRepository.findByCodeIn(codes).stream()
+                .map(Department::getCode)
+                .collect(Collectors.toSet());
+
+        List<Department> toCreate = new ArrayList<>();
+        List<Integer> createIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            DepartmentRequest request = requests.get(i);
+            if (existingCodes.contains(request.getCode())) {
+                results[i] = BatchItemResult.of(i, BatchItemResult.Status.REJECTED, null,
+                        List.of("code: Department with this code already exists"));
+            } else {
+                toCreate.add(Department.builder()
+                        .name(request.getName())
+                        .code(request.getCode())
+                        .build());
+                createIndexes.add(i);
+            }
+        }
+
+        List<Department> created = departmentRepository.saveAll(toCreate);
+        List<ChangeEvent> changes = new ArrayList<>(created.size());
+        for (int k = 0; k < created.size(); k++) {
+            int index = createIndexes.get(k);
+            results[index] = BatchItemResult.of(index, BatchItemResult.Status.CREATED, created.get(k).getId(), null);
+            changes.add(ChangeFeedService.departmentChanged(ChangeEvent.Operation.CREATED, created.get(k).getId()));
+        }
+        changeFeedService.record(changes);
+        return BatchResponse.of(Arrays.asList(results));
+    }
+
     public DepartmentResponse getDepartment(Long id) {
-        Department department = departmentRepository.findById(id)
+        return departmentCache.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Department not found"));
+    }
+
+    public DepartmentResponse getDepartmentByCode(String code) {
+        return departmentCache.findByCode(code)
                 .orElseThrow(() -> new EntityNotFoundException("Department not found"));
-        return mapToResponse(department);
     }
 
+    @Transactional
     public DepartmentResponse updateDepartment(Long id, DepartmentRequest request) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Department not found"));
 
+        String oldCode = department.getCode();
         department.setName(request.getName());
         department.setCode(request.getCode());
         Department updated = departmentRepository.save(department);
+        changeFeedService.record(List.of(ChangeFeedService.departmentChanged(ChangeEvent.Operation.UPDATED, id)));
+        departmentCache.evict(id, oldCode);
         return mapToResponse(updated);
     }
 
-    public void deleteDepartment(Long id, boolean force) {
-        if (!departmentRepository.existsById(id)) {
-            throw new EntityNotFoundException("Department not found");
-        }
-
-        List<Employee> employees = employeeRepository.findByDepartmentId(id);
+    // Set-based: the employees are audited and announced by INSERT ... SELECTs and removed by one DELETE,
+    // however many there are
+    @Transactional
+    public DepartmentDeleteResponse deleteDepartment(Long id, boolean force) {
+        Department department = departmentRepository.findForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Department not found"));
 
-        if (!employees.isEmpty()) {
+        int employeesDeleted = 0;
+        if (employeeRepository.existsByDepartmentId(id)) {
             if (!force) {
                 throw new IllegalStateException(
                         "Cannot delete department with existing employees. Use ?force=true to delete anyway."
                 );
             }
 
-            // Force delete: log and remove employees first
-            employees.forEach(emp ->
-                    log.info("Force delete: Removing employee ID={} Name={} Email={}",
-                            emp.getId(), emp.getName(), emp.getEmail())
-            );
-            employeeRepository.deleteAll(employees);
+            // Force delete: audit and remove employees first
+            salaryHistoryRepository.recordDepartmentDeletion(id, "Department " + id + " force deleted");
+            changeFeedService.recordDepartmentDeletion(id);
+            employeesDeleted = employeeRepository.deleteByDepartmentInBulk(id);
         }
 
-        log.info("Deleting department ID={}", id);
-        departmentRepository.deleteById(id);
+        log.info("Deleting department ID={} with {} employees", id, employeesDeleted);
+        departmentRepository.deleteInBulk(id);
+        changeFeedService.record(List.of(ChangeFeedService.departmentChanged(ChangeEvent.Operation.DELETED, id)));
+        departmentStatsService.departmentDeleted(id);
+        departmentCache.evict(id, department.getCode());
+        return DepartmentDeleteResponse.builder()
+                .departmentId(id)
+                .employeesDeleted(employeesDeleted)
+                .build();
     }
 
+    // Changes whenever a department is created, updated or deleted
+    @Transactional(readOnly = true)
+    public String getDepartmentsVersion() {
+        return Long.toString(collectionVersions.departments());
+    }
 
-
+    @Transactional(readOnly = true)
     public List<DepartmentResponse> getAllDepartments() {
         return departmentRepository.findAll()
                 .stream()
-                .map(this::mapToResponse)
+                .map(DepartmentService::mapToResponse)
                 .collect(Collectors.toList());
     }
 
-    private DepartmentResponse mapToResponse(Department department) {
+    @Transactional(readOnly = true)
+    public PageResponse<DepartmentResponse> getDepartmentsPage(String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        List<Department> rows = departmentRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorCodec.decode(cursor), Limit.of(pageSize + 1));
+
+        List<DepartmentResponse> items = rows.stream()
+                .limit(pageSize)
+                .map(DepartmentService::mapToResponse)
+                .collect(Collectors.toList());
+        String nextCursor = rows.size() > pageSize
+                ? CursorCodec.encode(items.get(items.size() - 1).getId())
+                : null;
+        return PageResponse.<DepartmentResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllDepartments(Consumer<DepartmentResponse> sink) {
+        try (Stream<Department> departments = departmentRepository.streamAllByOrderByIdAsc()) {
+            departments.forEach(department -> {
+                sink.accept(mapToResponse(department));
+                entityManager.detach(department);
+            });
+        }
+    }
+
+    static DepartmentResponse mapToResponse(Department department) {
         return DepartmentResponse.builder()
                 .id(department.getId())
                 .name(department.getName())
                 .code(department.getCode())
+                .version(department.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,281 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.DepartmentStatsResponse;
+import com.codegic.departmentManagement.dto.StatsReconcileResponse;
+import com.codegic.departmentManagement.entity.DepartmentStats;
+import com.codegic.departmentManagement.entity.DepartmentTenureCount;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.DepartmentStatsRepository;
+import com.codegic.departmentManagement.repository.DepartmentTenureCountRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Headcount, payroll and tenure per department, kept current by applying each employee write as a delta
+// in the same transaction; reconcile() rebuilds them from the employees table and reports drift
+@Service
+@RequiredArgsConstructor
+public class DepartmentStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentStatsService.class);
+
+    private final DepartmentStatsRepository statsRepository;
+    private final DepartmentTenureCountRepository tenureRepository;
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentCache departmentCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public static Changes changes() {
+        return new Changes();
+    }
+
+    // Departments are updated in id order so concurrent moves between two departments cannot deadlock
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Changes changes) {
+        Set<Long> departmentIds = new TreeSet<>(changes.removed.keySet());
+        departmentIds.addAll(changes.added.keySet());
+
+        for (Long departmentId : departmentIds) {
+            Delta removed = changes.removed.get(departmentId);
+            Delta added = changes.added.get(departmentId);
+            if (applyToStats(departmentId, removed, added)) {
+                applyToTenure(departmentId, removed, added);
+            } else {
+                rebuild(departmentId);
+            }
+        }
+    }
+
+    // Per-employee salary adjustment: the caller already holds every salary of the department
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void salariesAdjusted(Long departmentId, BigDecimal delta, BigDecimal minSalary, BigDecimal maxSalary) {
+        if (statsRepository.adjustSalaries(departmentId, delta, minSalary, maxSalary) == 0) {
+            rebuild(departmentId);
+        }
+    }
+
+    // Set-based salary updates touch the whole department anyway; one aggregate over the index is cheaper than deltas
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Long departmentId) {
+        if (statsRepository.refresh(departmentId) == 0) {
+            rebuild(departmentId);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void departmentDeleted(Long departmentId) {
+        tenureRepository.deleteByDepartment(departmentId);
+        statsRepository.deleteByDepartment(departmentId);
+    }
+
+    @Transactional(readOnly = true)
+    public DepartmentStatsResponse getStats(Long departmentId) {
+        DepartmentResponse department = departmentCache.findById(departmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Department not found"));
+
+        DepartmentStats stats = statsRepository.findById(department.getId()).orElseGet(() -> empty(department.getId()));
+        return toResponse(stats, tenureRepository.findByDepartmentIdAndHeadcountGreaterThan(department.getId(), 0),
+                Year.now().getValue());
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentStatsResponse> getAllStats() {
+        Map<Long, DepartmentStats> stats = statsRepository.findAll().stream()
+                .collect(Collectors.toMap(DepartmentStats::getDepartmentId, Function.identity()));
+        Map<Long, List<DepartmentTenureCount>> tenure = tenureRepository.findByHeadcountGreaterThan(0).stream()
+                .collect(Collectors.groupingBy(DepartmentTenureCount::getDepartmentId));
+        int currentYear = Year.now().getValue();
+
+        List<DepartmentStatsResponse> responses = new ArrayList<>();
+        for (Long departmentId : departmentRepository.findAllIds()) {
+            responses.add(toResponse(stats.getOrDefault(departmentId, empty(departmentId)),
+                    tenure.getOrDefault(departmentId, List.of()), currentYear));
+        }
+        return responses;
+    }
+
+    // Each department is compared and fixed in its own short transaction while holding its stats row lock,
+    // so deltas from concurrent writes are applied after the rebuilt values rather than lost
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 30 2 * * *}")
+    public StatsReconcileResponse reconcile() {
+        List<Long> departmentIds = transactionTemplate.execute(status -> departmentRepository.findAllIds());
+        List<Long> drifted = new ArrayList<>();
+        for (Long departmentId : departmentIds) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileDepartment(departmentId)))) {
+                drifted.add(departmentId);
+            }
+        }
+
+        log.info("Department stats reconciled: {} departments checked, {} drifted", departmentIds.size(), drifted.size());
+        return StatsReconcileResponse.builder()
+                .departmentsChecked(departmentIds.size())
+                .departmentsDrifted(drifted.size())
+                .driftedDepartmentIds(drifted)
+                .build();
+    }
+
+    // Databases that had employees before the stats tables existed get them filled on first start. Checked in a
+    // read-write transaction: a read-only one would be routed to the replica, which may lag or not be migrated yet
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialiseIfEmpty() {
+        if (Objects.equals(transactionTemplate.execute(status -> statsRepository.count()), 0L)) {
+            reconcile();
+        }
+    }
+
+    private boolean applyToStats(Long departmentId, Delta removed, Delta added) {
+        if (removed != null) {
+            if (statsRepository.remove(departmentId, removed.count, removed.total) == 0) {
+                return false;
+            }
+            statsRepository.recomputeMinMaxIfRemoved(departmentId, removed.min, removed.max);
+        }
+        return added == null || statsRepository.add(departmentId, added.count, added.total, added.min, added.max) > 0;
+    }
+
+    private void applyToTenure(Long departmentId, Delta removed, Delta added) {
+        Map<Integer, Long> net = new TreeMap<>();
+        if (added != null) {
+            added.years.forEach((year, count) -> net.merge(year, count, Long::sum));
+        }
+        if (removed != null) {
+            removed.years.forEach((year, count) -> net.merge(year, -count, Long::sum));
+        }
+
+        net.forEach((year, delta) -> {
+            if (delta != 0 && tenureRepository.increment(departmentId, year, delta) == 0 && delta > 0) {
+                tenureRepository.insertIfAbsent(departmentId, year);
+                tenureRepository.increment(departmentId, year, delta);
+            }
+        });
+    }
+
+    // Department without a stats row yet (created before the stats existed): build it from the employees table
+    private void rebuild(Long departmentId) {
+        statsRepository.insertIfAbsent(departmentId);
+        statsRepository.refresh(departmentId);
+        tenureRepository.deleteByDepartment(departmentId);
+        tenureRepository.rebuild(departmentId);
+    }
+
+    private boolean reconcileDepartment(Long departmentId) {
+        statsRepository.insertIfAbsent(departmentId);
+        DepartmentStats stats = statsRepository.findForUpdate(departmentId).orElseThrow();
+
+        DepartmentStatsRepository.SalaryAggregate actual = statsRepository.aggregate(departmentId);
+        Map<Integer, Long> actualYears = new HashMap<>();
+        tenureRepository.aggregate(departmentId)
+                .forEach(row -> actualYears.put(row.getJoiningYear(), row.getHeadcount()));
+        Map<Integer, Long> storedYears = new HashMap<>();
+        tenureRepository.findByDepartmentIdAndHeadcountGreaterThan(departmentId, 0)
+                .forEach(row -> storedYears.put(row.getJoiningYear(), row.getHeadcount()));
+
+        boolean salariesMatch = stats.getHeadcount() == actual.getHeadcount()
+                && sameAmount(stats.getTotalSalary(), actual.getTotalSalary())
+                && sameAmount(stats.getMinSalary(), actual.getMinSalary())
+                && sameAmount(stats.getMaxSalary(), actual.getMaxSalary());
+        if (salariesMatch && storedYears.equals(actualYears)) {
+            return false;
+        }
+
+        log.warn("Department {} stats drifted: headcount {} -> {}, total {} -> {}", departmentId,
+                stats.getHeadcount(), actual.getHeadcount(), stats.getTotalSalary(), actual.getTotalSalary());
+        stats.setHeadcount(actual.getHeadcount());
+        stats.setTotalSalary(actual.getTotalSalary());
+        stats.setMinSalary(actual.getMinSalary());
+        stats.setMaxSalary(actual.getMaxSalary());
+        statsRepository.save(stats);
+        tenureRepository.deleteByDepartment(departmentId);
+        tenureRepository.rebuild(departmentId);
+        return true;
+    }
+
+    private static boolean sameAmount(BigDecimal stored, BigDecimal actual) {
+        return stored == null || actual == null ? Objects.equals(stored, actual) : stored.compareTo(actual) == 0;
+    }
+
+    private static DepartmentStats empty(Long departmentId) {
+        return DepartmentStats.builder()
+                .departmentId(departmentId)
+                .totalSalary(BigDecimal.ZERO)
+                .build();
+    }
+
+    private static DepartmentStatsResponse toResponse(DepartmentStats stats, List<DepartmentTenureCount> tenure,
+                                                      int currentYear) {
+        Map<Integer, Long> histogram = new TreeMap<>();
+        for (DepartmentTenureCount count : tenure) {
+            histogram.merge(Math.max(currentYear - count.getJoiningYear(), 0), count.getHeadcount(), Long::sum);
+        }
+        return DepartmentStatsResponse.builder()
+                .departmentId(stats.getDepartmentId())
+                .headcount(stats.getHeadcount())
+                .totalSalary(stats.getTotalSalary())
+                .minSalary(stats.getMinSalary())
+                .maxSalary(stats.getMaxSalary())
+                .averageSalary(stats.getHeadcount() == 0 ? null
+                        : stats.getTotalSalary().divide(BigDecimal.valueOf(stats.getHeadcount()), 2, RoundingMode.HALF_UP))
+                .tenureHistogram(histogram)
+                .build();
+    }
+
+    // Employee rows added to and removed from departments within one transaction
+    public static final class Changes {
+        private final Map<Long, Delta> added = new HashMap<>();
+        private final Map<Long, Delta> removed = new HashMap<>();
+
+        public Changes add(Long departmentId, BigDecimal salary, LocalDate joiningDate) {
+            added.computeIfAbsent(departmentId, id -> new Delta()).include(salary, joiningDate);
+            return this;
+        }
+
+        public Changes remove(Long departmentId, BigDecimal salary, LocalDate joiningDate) {
+            removed.computeIfAbsent(departmentId, id -> new Delta()).include(salary, joiningDate);
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    private static final class Delta {
+        private long count;
+        private BigDecimal total = BigDecimal.ZERO;
+        private BigDecimal min;
+        private BigDecimal max;
+        private final Map<Integer, Long> years = new HashMap<>();
+
+        void include(BigDecimal salary, LocalDate joiningDate) {
+            count++;
+            total = total.add(salary);
+            min = min == null || salary.compareTo(min) < 0 ? salary : min;
+            max = max == null || salary.compareTo(max) > 0 ? salary : max;
+            years.merge(joiningDate.getYear(), 1L, Long::sum);
+        }
+    }
+}
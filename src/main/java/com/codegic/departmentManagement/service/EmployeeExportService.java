@@ -0,0 +1,145 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.util.CsvSupport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Roster export straight from a forward-only JDBC cursor; nothing enters the persistence context
+@Service
+@RequiredArgsConstructor
+public class EmployeeExportService {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        // equalsIgnoreCase does not depend on the default locale, unlike toUpperCase()
+        public static Format fromParameter(String parameter) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(parameter)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format: " + parameter);
+        }
+    }
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SELECT = """
+            SELECT e.id, e.name, e.email, e.salary, e.joining_date, d.id AS department_id, d.name AS department_name
+            FROM employees e
+            JOIN departments d ON d.id = e.department_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Read-only transaction: the Postgres driver only honours the fetch size with autocommit off
+    @Transactional(readOnly = true)
+    public void export(Format format, Long departmentId, LocalDate joinedFrom, LocalDate joinedTo, OutputStream out)
+            throws IOException {
+        StringBuilder sql = new StringBuilder(EXPORT_SELECT).append("WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (departmentId != null) {
+            sql.append(" AND e.department_id = ?");
+            params.add(departmentId);
+        }
+        if (joinedFrom != null) {
+            sql.append(" AND e.joining_date >= ?");
+            params.add(joinedFrom);
+        }
+        if (joinedTo != null) {
+            sql.append(" AND e.joining_date <= ?");
+            params.add(joinedTo);
+        }
+        sql.append(" ORDER BY e.id");
+
+        try (RecordWriter writer = writerFor(format, out)) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    writer.write(new EmployeeResponse(
+                            rs.getLong("id"),
+                            rs.getString("name"),
+                            rs.getString("email"),
+                            rs.getBigDecimal("salary"),
+                            rs.getObject("joining_date", LocalDate.class),
+                            rs.getLong("department_id"),
+                            rs.getString("department_name")));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    // Rows reach the response stream as the generator's buffer fills, not flushed one by one
+    private RecordWriter writerFor(Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            SequenceWriter csv = CsvSupport.MAPPER.writerFor(EmployeeResponse.class)
+                    .with(CsvSupport.MAPPER.schemaFor(EmployeeResponse.class).withHeader())
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .writeValues(out);
+            return new RecordWriter() {
+                @Override
+                public void write(EmployeeResponse employee) throws IOException {
+                    csv.write(employee);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    csv.close();
+                }
+            };
+        }
+
+        // NDJSON: every record ends with its own newline, the last one included
+        ObjectWriter json = objectMapper.writerFor(EmployeeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.setRootValueSeparator(null);
+        return new RecordWriter() {
+            @Override
+            public void write(EmployeeResponse employee) throws IOException {
+                json.writeValue(generator, employee);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void close() throws IOException {
+                generator.close();
+            }
+        };
+    }
+
+    private interface RecordWriter extends Closeable {
+        void write(EmployeeResponse employee) throws IOException;
+    }
+}
@@ -0,0 +1,607 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.ChangeEventResponse;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.EmployeeSearchCriteria;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.entity.ChangeEvent;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.repository.EmployeeSpecifications.SortField;
+import com.codegic.departmentManagement.util.CursorCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+/*
+ * Optional in-process copy of the employee directory (app.read-model.enabled) that serves the employee read
+ * endpoints without JPA or a connection:
+ * - compact rows by id, email -> id, and per department a sorted id array; departments are held separately
+ *   and joined when a response is built, so a rename touches one entry;
+ * - reads take no lock: concurrent maps, and arrays that are replaced rather than modified once published;
+ * - refreshes are serialised by one lock and reload the rows from the primary while holding it, so a change
+ *   applied twice or late still ends on the committed state. Every refresh has its connection before it
+ *   takes the lock, so the lock holder never waits on the pool while writers queue on the lock.
+ * Warmed by one streaming read, then kept current by ChangeFeedService: the commit hook applies this node's
+ * writes before the writer's request returns, the feed subscription applies every node's. Until it is warm,
+ * and whenever the subscription fails, isServing() is false and the endpoints stay on EmployeeService.
+ */
+@Service
+public class EmployeeReadModel implements EmployeeReads, ChangeFeedService.CommitListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeReadModel.class);
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int FETCH_SIZE = 1000;
+    private static final int REFRESH_CHUNK = 500;
+    private static final long[] NO_IDS = new long[0];
+    private static final String SEARCH_SORT_KEY = SortField.ID.attribute() + "," + Sort.Direction.ASC.name();
+
+    private static final String EMPLOYEE_SELECT =
+            "SELECT id, name, email, salary, joining_date, department_id, version FROM employees";
+    private static final String DEPARTMENT_SELECT = "SELECT id, name, version FROM departments";
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email"),
+            rs.getBigDecimal("salary").movePointRight(2).longValueExact(),
+            (int) rs.getObject("joining_date", LocalDate.class).toEpochDay(),
+            rs.getLong("department_id"),
+            rs.getLong("version"));
+    private static final RowMapper<Dept> DEPT_MAPPER = (rs, rowNum) -> new Dept(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getLong("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeFeedService changeFeedService;
+    private final boolean enabled;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final ConcurrentHashMap<Long, Row> employees = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, long[]> idsByDepartment = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Dept> departments = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Written under writeLock only; generation moves whenever a row is added or removed
+    private volatile Totals employeeTotals = Totals.EMPTY;
+    private volatile Totals departmentTotals = Totals.EMPTY;
+    private volatile long generation;
+    private volatile IdSnapshot allIds = new IdSnapshot(-1, NO_IDS);
+    private volatile boolean serving;
+    private volatile Runnable unsubscribe = () -> { };
+
+    public EmployeeReadModel(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ChangeFeedService changeFeedService,
+                             @Value("${app.read-model.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write, so it is routed to the primary
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changeFeedService = changeFeedService;
+        this.enabled = enabled;
+
+        // Warm-ups run here, off the scheduler thread the relay shares
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("read-model-");
+        executor.initialize();
+    }
+
+    // Registered once constructed, not from the constructor, so the feed never sees a half-built model
+    @PostConstruct
+    void listenForCommits() {
+        if (enabled) {
+            changeFeedService.addCommitListener(this);
+        }
+    }
+
+    public boolean isServing() {
+        return serving;
+    }
+
+    // Filters the indexes answer directly, in the default id order; anything else is a database query
+    public static boolean canSearch(EmployeeSearchCriteria criteria) {
+        return isBlank(criteria.getName())
+                && criteria.getSalaryMin() == null
+                && criteria.getSalaryMax() == null
+                && criteria.getJoinedFrom() == null
+                && criteria.getJoinedTo() == null
+                && (isBlank(criteria.getSort()) || criteria.getSort().equals(SortField.ID.attribute()))
+                && (isBlank(criteria.getDirection()) || criteria.getDirection().equalsIgnoreCase("asc"));
+    }
+
+    @Override
+    public EmployeeResponse getEmployee(Long id) {
+        Row row = row(id);
+        return toResponse(row, department(row));
+    }
+
+    @Override
+    public String getEmployeeVersion(Long id) {
+        Row row = row(id);
+        return row.version() + "." + department(row).version();
+    }
+
+    @Override
+    public List<EmployeeResponse> getAllEmployees() {
+        long[] ids = allIds();
+        List<EmployeeResponse> responses = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Row row = employees.get(id);
+            Dept department = row == null ? null : departments.get(row.departmentId());
+            if (department != null) {
+                responses.add(toResponse(row, department));
+            }
+        }
+        return responses;
+    }
+
+    // A fingerprint of what this model holds rather than the database counter EmployeeService reads: a counter
+    // read here could already include another node's change that the feed has not applied yet
+    @Override
+    public String getEmployeesVersion() {
+        return employeeTotals.token() + "-" + departmentTotals.token();
+    }
+
+    @Override
+    public PageResponse<EmployeeResponse> getEmployeesPage(String cursor, int limit) {
+        return page(allIds(), CursorCodec.decode(cursor), Math.clamp(limit, 1, MAX_PAGE_SIZE),
+                row -> true, last -> CursorCodec.encode(last.getId()));
+    }
+
+    @Override
+    public PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria) {
+        if (!canSearch(criteria)) {
+            throw new IllegalArgumentException("The read model only searches by department and email in id order");
+        }
+        int pageSize = Math.clamp(criteria.getLimit() == null ? 50 : criteria.getLimit(), 1, MAX_PAGE_SIZE);
+        long afterId = 0;
+        if (!isBlank(criteria.getCursor())) {
+            String[] cursor = CursorCodec.decode(criteria.getCursor(), 3);
+            if (!cursor[0].equals(SEARCH_SORT_KEY)) {
+                throw new BadRequestException("Cursor does not match the requested sort");
+            }
+            try {
+                afterId = Long.parseLong(cursor[1]);
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        Long departmentId = criteria.getDepartmentId();
+        String email = isBlank(criteria.getEmail()) ? null : criteria.getEmail().trim();
+        long[] ids;
+        if (email != null) {
+            Long id = idsByEmail.get(email);
+            ids = id == null ? NO_IDS : new long[]{id};
+        } else if (departmentId != null) {
+            ids = idsByDepartment.getOrDefault(departmentId, NO_IDS);
+        } else {
+            ids = allIds();
+        }
+        // Index entries can trail the row they point at for a moment, so the row itself is checked
+        return page(ids, afterId, pageSize,
+                row -> (departmentId == null || row.departmentId() == departmentId)
+                        && (email == null || row.email().equals(email)),
+                last -> CursorCodec.encode(SEARCH_SORT_KEY, last.getId().toString(), SortField.ID.valueOf(last)));
+    }
+
+    // Loads every department and employee in one streaming read, then follows the change feed from the offset
+    // stored before the load; events the load already reflects are simply applied again
+    public synchronized void warmUp() {
+        long started = System.nanoTime();
+        serving = false;
+        unsubscribe.run();
+        unsubscribe = () -> { };
+        long offset = transactionTemplate.execute(status -> {
+            writeLock.lock();
+            try {
+                long stored = changeFeedService.storedOffset();
+                load();
+                return stored;
+            } finally {
+                writeLock.unlock();
+            }
+        });
+        unsubscribe = changeFeedService.subscribe(offset, REFRESH_CHUNK, this::apply, this::subscriptionFailed);
+        serving = true;
+        log.info("Employee read model warmed up with {} employees in {} ms",
+                employees.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Also the first warm-up: the initial run comes as soon as the scheduler starts
+    @Scheduled(fixedDelayString = "${app.read-model.retry-interval:30s}")
+    public void ensureWarm() {
+        if (!enabled || serving || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    warmUp();
+                } catch (RuntimeException ex) {
+                    log.warn("Warming up the employee read model failed, reads stay on the database", ex);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            rebuilding.set(false);
+        }
+    }
+
+    // Runs in the writer's afterCommit, reading through its still-bound connection, so the write is visible
+    // here before the writer's response goes out and the refresh never asks the pool for a second connection
+    @Override
+    public void committed(List<ChangeEvent> events) {
+        if (!serving) {
+            return;
+        }
+        Set<Long> employeeIds = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        for (ChangeEvent event : events) {
+            (event.getEntityType() == ChangeEvent.EntityType.EMPLOYEE ? employeeIds : departmentIds)
+                    .add(event.getEntityId());
+        }
+        refresh(employeeIds, departmentIds);
+    }
+
+    @Override
+    public void committed(Long departmentId, long afterId, long upToId) {
+        if (!serving) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            List<Row> rows = jdbcTemplate.query(EMPLOYEE_SELECT + " WHERE department_id = ? AND id > ? AND id <= ?",
+                    ROW_MAPPER, departmentId, afterId, upToId);
+            Set<Long> found = new HashSet<>();
+            for (Row row : rows) {
+                found.add(row.id());
+            }
+            for (long id : idsByDepartment.getOrDefault(departmentId, NO_IDS)) {
+                if (id > afterId && id <= upToId && !found.contains(id)) {
+                    remove(id);
+                }
+            }
+            putAll(rows);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        unsubscribe.run();
+    }
+
+    // Change feed sink, on the notifier pool
+    private void apply(List<ChangeEventResponse> events) {
+        Set<Long> employeeIds = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        for (ChangeEventResponse event : events) {
+            (event.getEntityType().equals(ChangeEvent.EntityType.EMPLOYEE.name()) ? employeeIds : departmentIds)
+                    .add(event.getEntityId());
+        }
+        transactionTemplate.executeWithoutResult(status -> refresh(employeeIds, departmentIds));
+    }
+
+    private void subscriptionFailed(Exception ex) {
+        log.warn("Employee read model lost its change feed subscription, reads fall back to the database", ex);
+        serving = false;
+    }
+
+    // Departments first, including any a refreshed employee now points at, so no reader sees a row without one
+    private void refresh(Collection<Long> employeeIds, Collection<Long> departmentIds) {
+        writeLock.lock();
+        try {
+            List<Row> rows = new ArrayList<>();
+            Set<Long> found = new HashSet<>();
+            Set<Long> departmentsToLoad = new HashSet<>(departmentIds);
+            for (List<Long> chunk : chunks(employeeIds)) {
+                for (Row row : jdbcTemplate.query(EMPLOYEE_SELECT + " WHERE id IN (" + placeholders(chunk) + ")",
+                        ROW_MAPPER, chunk.toArray())) {
+                    rows.add(row);
+                    found.add(row.id());
+                    if (!departments.containsKey(row.departmentId())) {
+                        departmentsToLoad.add(row.departmentId());
+                    }
+                }
+            }
+            for (List<Long> chunk : chunks(departmentsToLoad)) {
+                Map<Long, Dept> loaded = new HashMap<>();
+                for (Dept department : jdbcTemplate.query(
+                        DEPARTMENT_SELECT + " WHERE id IN (" + placeholders(chunk) + ")", DEPT_MAPPER, chunk.toArray())) {
+                    loaded.put(department.id(), department);
+                }
+                for (Long id : chunk) {
+                    if (loaded.containsKey(id)) {
+                        putDepartment(loaded.get(id));
+                    } else {
+                        removeDepartment(id);
+                    }
+                }
+            }
+            putAll(rows);
+            for (Long id : employeeIds) {
+                if (!found.contains(id)) {
+                    remove(id);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Bulk path: id-ordered rows go straight into growable per-department buffers, published once at the end
+    private void load() {
+        employees.clear();
+        idsByEmail.clear();
+        idsByDepartment.clear();
+        departments.clear();
+
+        Totals departmentSums = Totals.EMPTY;
+        for (Dept department : jdbcTemplate.query(DEPARTMENT_SELECT, DEPT_MAPPER)) {
+            departments.put(department.id(), department);
+            departmentSums = departmentSums.plus(department.id(), department.version());
+        }
+
+        Map<Long, LongStream.Builder> members = new HashMap<>();
+        long[] sums = new long[2];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EMPLOYEE_SELECT + " ORDER BY id", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            Row row = ROW_MAPPER.mapRow(rs, 0);
+            Long id = row.id();
+            employees.put(id, row);
+            idsByEmail.put(row.email(), id);
+            members.computeIfAbsent(row.departmentId(), department -> LongStream.builder()).add(row.id());
+            sums[0]++;
+            sums[1] += Totals.mix(row.id(), row.version());
+        });
+        members.forEach((department, ids) -> idsByDepartment.put(department, ids.build().toArray()));
+
+        employeeTotals = new Totals(sums[0], sums[1]);
+        departmentTotals = departmentSums;
+        generation++;
+    }
+
+    private void putAll(List<Row> rows) {
+        for (Row row : rows) {
+            put(row);
+        }
+    }
+
+    private void put(Row row) {
+        Long id = row.id();
+        Row previous = employees.put(id, row);
+        if (previous != null && !previous.email().equals(row.email())) {
+            idsByEmail.remove(previous.email(), id);
+        }
+        idsByEmail.put(row.email(), id);
+        if (previous == null || previous.departmentId() != row.departmentId()) {
+            if (previous != null) {
+                idsByDepartment.computeIfPresent(previous.departmentId(), (department, ids) -> without(ids, row.id()));
+            }
+            idsByDepartment.compute(row.departmentId(), (department, ids) -> with(ids, row.id()));
+        }
+
+        Totals totals = employeeTotals;
+        if (previous == null) {
+            generation++;
+        } else {
+            totals = totals.minus(previous.id(), previous.version());
+        }
+        employeeTotals = totals.plus(row.id(), row.version());
+    }
+
+    private void remove(Long id) {
+        Row previous = employees.remove(id);
+        if (previous == null) {
+            return;
+        }
+        idsByEmail.remove(previous.email(), id);
+        idsByDepartment.computeIfPresent(previous.departmentId(), (department, ids) -> without(ids, previous.id()));
+        employeeTotals = employeeTotals.minus(previous.id(), previous.version());
+        generation++;
+    }
+
+    private void putDepartment(Dept department) {
+        Dept previous = departments.put(department.id(), department);
+        Totals totals = previous == null
+                ? departmentTotals
+                : departmentTotals.minus(previous.id(), previous.version());
+        departmentTotals = totals.plus(department.id(), department.version());
+    }
+
+    private void removeDepartment(Long id) {
+        Dept previous = departments.remove(id);
+        if (previous != null) {
+            departmentTotals = departmentTotals.minus(previous.id(), previous.version());
+        }
+    }
+
+    private Row row(Long id) {
+        Row row = employees.get(id);
+        if (row == null) {
+            throw new EntityNotFoundException("Employee not found");
+        }
+        return row;
+    }
+
+    private Dept department(Row row) {
+        Dept department = departments.get(row.departmentId());
+        if (department == null) {
+            throw new EntityNotFoundException("Employee not found");
+        }
+        return department;
+    }
+
+    // Sorted ids of every row, rebuilt by the first read after an insert or delete
+    private long[] allIds() {
+        IdSnapshot snapshot = allIds;
+        long current = generation;
+        if (snapshot.generation() != current) {
+            snapshot = new IdSnapshot(current, employees.keySet().stream().mapToLong(Long::longValue).sorted().toArray());
+            allIds = snapshot;
+        }
+        return snapshot.ids();
+    }
+
+    private PageResponse<EmployeeResponse> page(long[] ids, long afterId, int pageSize, Predicate<Row> filter,
+                                                Function<EmployeeResponse, String> cursorOf) {
+        int from = Arrays.binarySearch(ids, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        List<EmployeeResponse> rows = new ArrayList<>(Math.min(pageSize + 1, ids.length - from));
+        for (int i = from; i < ids.length && rows.size() <= pageSize; i++) {
+            Row row = employees.get(ids[i]);
+            Dept department = row == null ? null : departments.get(row.departmentId());
+            if (department != null && filter.test(row)) {
+                rows.add(toResponse(row, department));
+            }
+        }
+
+        List<EmployeeResponse> items = rows.subList(0, Math.min(rows.size(), pageSize));
+        String nextCursor = rows.size() > pageSize
+                ? cursorOf.apply(items.get(items.size() - 1))
+                : null;
+        return PageResponse.<EmployeeResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static EmployeeResponse toResponse(Row row, Dept department) {
+        return new EmployeeResponse(
+                row.id(),
+                row.name(),
+                row.email(),
+                BigDecimal.valueOf(row.salaryCents(), 2),
+                LocalDate.ofEpochDay(row.joiningDay()),
+                row.departmentId(),
+                department.name());
+    }
+
+    private static long[] with(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) {
+            return ids;
+        }
+        at = -at - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, at);
+        copy[at] = id;
+        System.arraycopy(ids, at, copy, at + 1, ids.length - at);
+        return copy;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) {
+            return ids;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, at);
+        System.arraycopy(ids, at + 1, copy, at, ids.length - at - 1);
+        return copy;
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += REFRESH_CHUNK) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + REFRESH_CHUNK)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // Salary in cents and the joining date as an epoch day keep a row at two references and five primitives
+    private record Row(long id, String name, String email, long salaryCents, int joiningDay,
+                       long departmentId, long version) {
+    }
+
+    private record Dept(long id, String name, long version) {
+    }
+
+    // Row count and the sum of a 64-bit mix of each row's id and version. Plain id and version sums can balance
+    // out when rows are deleted and others inserted; mixed hashes practically never do
+    private record Totals(long count, long hashSum) {
+        static final Totals EMPTY = new Totals(0, 0);
+
+        Totals plus(long id, long version) {
+            return new Totals(count + 1, hashSum + mix(id, version));
+        }
+
+        Totals minus(long id, long version) {
+            return new Totals(count - 1, hashSum - mix(id, version));
+        }
+
+        String token() {
+            return count + "." + Long.toHexString(hashSum);
+        }
+
+        // SplitMix64 finaliser
+        private static long mix(long id, long version) {
+            long z = id * 0x9E3779B97F4A7C15L + version;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    private record IdSnapshot(long generation, long[] ids) {
+    }
+}
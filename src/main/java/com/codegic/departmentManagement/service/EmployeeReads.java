@@ -0,0 +1,25 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.EmployeeSearchCriteria;
+import com.codegic.departmentManagement.dto.PageResponse;
+
+import java.util.List;
+
+// Read side of the employee endpoints: EmployeeService answers from the database, EmployeeReadModel from memory.
+// Both produce the same responses, cursors and per-employee version tokens, so clients cannot tell which one served
+// them. The collection token differs between the two, so revalidating on the other one costs a full response.
+public interface EmployeeReads {
+
+    EmployeeResponse getEmployee(Long id);
+
+    String getEmployeeVersion(Long id);
+
+    List<EmployeeResponse> getAllEmployees();
+
+    String getEmployeesVersion();
+
+    PageResponse<EmployeeResponse> getEmployeesPage(String cursor, int limit);
+
+    PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria);
+}
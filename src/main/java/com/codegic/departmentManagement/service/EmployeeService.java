@@ -1,147 +1,509 @@
 package com.codegic.departmentManagement.service;
 
 import com.codegic.departmentManagement.dto.*;
+import com.codegic.departmentManagement.entity.ChangeEvent;
 import com.codegic.departmentManagement.entity.Department;
 import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.entity.SalaryHistory;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.exception.SalaryAdjustmentConflictException;
 import com.codegic.departmentManagement.repository.DepartmentRepository;
 import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.codegic.departmentManagement.repository.EmployeeSpecifications;
+import com.codegic.departmentManagement.repository.EmployeeSpecifications.SortField;
+import com.codegic.departmentManagement.repository.SalaryHistoryRepository;
+import com.codegic.departmentManagement.util.CursorCodec;
 import com.codegic.departmentManagement.util.IdempotencyStore;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
-public class EmployeeService {
+@Timed(value = ServiceMetrics.TIMER, histogram = true)
+public class EmployeeService implements EmployeeReads {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
 
+    private static final SalaryRules SALARY_RULES = SalaryRules.DEFAULT;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
     private final IdempotencyStore idempotencyStore;
+    private final DepartmentCache departmentCache;
+    private final DepartmentStatsService departmentStatsService;
+    private final SalaryHistoryService salaryHistoryService;
+    private final SalaryHistoryRepository salaryHistoryRepository;
+    private final ChangeFeedService changeFeedService;
+    private final CollectionVersions collectionVersions;
+    private final ServiceMetrics serviceMetrics;
+    private final Validator validator;
 
     // CRUD
+    @Transactional
     public EmployeeResponse createEmployee(EmployeeRequest request) {
-        Department department = departmentRepository.findById(request.getDepartmentId())
+        DepartmentResponse department = departmentCache.findById(request.getDepartmentId())
                 .orElseThrow(() -> new EntityNotFoundException("Department not found"));
 
         Employee employee = Employee.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .salary(request.getSalary())
+                .salary(SalaryRules.scaled(request.getSalary()))
                 .joiningDate(request.getJoiningDate())
-                .department(department)
+                .department(departmentRepository.getReferenceById(department.getId()))
                 .build();
 
-        return mapToResponse(employeeRepository.save(employee));
+        Employee saved = employeeRepository.save(employee);
+        departmentStatsService.apply(DepartmentStatsService.changes()
+                .add(department.getId(), saved.getSalary(), saved.getJoiningDate()));
+        changeFeedService.record(List.of(ChangeFeedService.employeeChanged(
+                ChangeEvent.Operation.CREATED, saved.getId(), department.getId())));
+        return mapToResponse(saved, department);
     }
 
+    @Override
+    @Transactional(readOnly = true)
     public EmployeeResponse getEmployee(Long id) {
-        Employee emp = employeeRepository.findById(id)
+        return employeeRepository.findResponseById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found"));
+    }
+
+    // Version of the response without loading it: the employee row plus the department whose name it shows
+    @Override
+    @Transactional(readOnly = true)
+    public String getEmployeeVersion(Long id) {
+        return employeeRepository.findResponseVersionById(id)
+                .map(version -> version.getEmployeeVersion() + "." + version.getDepartmentVersion())
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found"));
-        return mapToResponse(emp);
     }
 
+    // Batch create/upsert: one query for departments, one for existing emails, inserts flushed in JDBC batches
+    @Transactional
+    public BatchResponse createEmployees(List<EmployeeRequest> requests, boolean upsert) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Set<String> emails = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validateBatchItem(requests.get(i));
+            if (errors.isEmpty() && !emails.add(requests.get(i).getEmail())) {
+                errors = List.of("email: Duplicate email in batch");
+            }
+            if (errors.isEmpty()) {
+                departmentIds.add(requests.get(i).getDepartmentId());
+            } else {
+                results[i] = BatchItemResult.of(i, BatchItemResult.Status.REJECTED, null, errors);
+            }
+        }
+
+        Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+        Map<String, Employee> existing = emails.isEmpty() ? Map.of() : employeeRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(Employee::getEmail, Function.identity()));
+
+        List<Employee> toCreate = new ArrayList<>();
+        List<Integer> createIndexes = new ArrayList<>();
+        List<SalaryHistory> history = new ArrayList<>();
+        List<ChangeEvent> changes = new ArrayList<>();
+        DepartmentStatsService.Changes statsChanges = DepartmentStatsService.changes();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            EmployeeRequest request = requests.get(i);
+            Department department = departments.get(request.getDepartmentId());
+            Employee current = existing.get(request.getEmail());
+            BigDecimal salary = SalaryRules.scaled(request.getSalary());
+
+            if (department == null) {
+                results[i] = BatchItemResult.of(i, BatchItemResult.Status.REJECTED, null,
+                        List.of("departmentId: Department not found"));
+            } else if (current != null && !upsert) {
+                results[i] = BatchItemResult.of(i, BatchItemResult.Status.REJECTED, current.getId(),
+                        List.of("email: Employee with this email already exists"));
+            } else if (current != null) {
+                statsChanges.remove(current.getDepartment().getId(), current.getSalary(), current.getJoiningDate())
+                        .add(department.getId(), salary, request.getJoiningDate());
+                if (current.getSalary().compareTo(salary) != 0) {
+                    history.add(SalaryHistoryService.salaryChanged(current.getId(), department.getId(),
+                            current.getSalary(), salary, "Batch upsert", null));
+                }
+                current.setName(request.getName());
+                current.setSalary(salary);
+                current.setJoiningDate(request.getJoiningDate());
+                current.setDepartment(department);
+                changes.add(ChangeFeedService.employeeChanged(
+                        ChangeEvent.Operation.UPDATED, current.getId(), department.getId()));
+                results[i] = BatchItemResult.of(i, BatchItemResult.Status.UPDATED, current.getId(), null);
+            } else {
+                toCreate.add(Employee.builder()
+                        .name(request.getName())
+                        .email(request.getEmail())
+                        .salary(salary)
+                        .joiningDate(request.getJoiningDate())
+                        .department(department)
+                        .build());
+                createIndexes.add(i);
+                statsChanges.add(department.getId(), salary, request.getJoiningDate());
+            }
+        }
+
+        List<Employee> created = employeeRepository.saveAll(toCreate);
+        for (int k = 0; k < created.size(); k++) {
+            int index = createIndexes.get(k);
+            results[index] = BatchItemResult.of(index, BatchItemResult.Status.CREATED, created.get(k).getId(), null);
+            changes.add(ChangeFeedService.employeeChanged(ChangeEvent.Operation.CREATED,
+                    created.get(k).getId(), created.get(k).getDepartment().getId()));
+        }
+        if (!statsChanges.isEmpty()) {
+            departmentStatsService.apply(statsChanges);
+        }
+        salaryHistoryService.record(history);
+        changeFeedService.record(changes);
+
+        return BatchResponse.of(Arrays.asList(results));
+    }
+
+    @Transactional
     public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found"));
 
-        Department department = departmentRepository.findById(request.getDepartmentId())
+        DepartmentResponse department = departmentCache.findById(request.getDepartmentId())
                 .orElseThrow(() -> new EntityNotFoundException("Department not found"));
 
+        BigDecimal salary = SalaryRules.scaled(request.getSalary());
+        DepartmentStatsService.Changes statsChanges = DepartmentStatsService.changes()
+                .remove(emp.getDepartment().getId(), emp.getSalary(), emp.getJoiningDate())
+                .add(department.getId(), salary, request.getJoiningDate());
+        if (emp.getSalary().compareTo(salary) != 0) {
+            salaryHistoryService.record(List.of(SalaryHistoryService.salaryChanged(emp.getId(), department.getId(),
+                    emp.getSalary(), salary, "Employee updated", null)));
+        }
+
         emp.setName(request.getName());
         emp.setEmail(request.getEmail());
-        emp.setSalary(request.getSalary());
+        emp.setSalary(salary);
         emp.setJoiningDate(request.getJoiningDate());
-        emp.setDepartment(department);
+        emp.setDepartment(departmentRepository.getReferenceById(department.getId()));
 
-        return mapToResponse(employeeRepository.save(emp));
+        Employee saved = employeeRepository.save(emp);
+        departmentStatsService.apply(statsChanges);
+        changeFeedService.record(List.of(ChangeFeedService.employeeChanged(
+                ChangeEvent.Operation.UPDATED, saved.getId(), department.getId())));
+        return mapToResponse(saved, department);
     }
 
+    @Transactional
     public void deleteEmployee(Long id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new EntityNotFoundException("Employee not found");
-        }
-        employeeRepository.deleteById(id);
+        Employee emp = employeeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Employee not found"));
+        employeeRepository.delete(emp);
+        departmentStatsService.apply(DepartmentStatsService.changes()
+                .remove(emp.getDepartment().getId(), emp.getSalary(), emp.getJoiningDate()));
+        salaryHistoryService.record(List.of(SalaryHistoryService.employeeDeleted(
+                emp.getId(), emp.getDepartment().getId(), emp.getSalary(), "Employee deleted")));
+        changeFeedService.record(List.of(ChangeFeedService.employeeChanged(
+                ChangeEvent.Operation.DELETED, emp.getId(), emp.getDepartment().getId())));
+    }
+
+    // Department names are part of every response, so department changes move it too
+    @Override
+    @Transactional(readOnly = true)
+    public String getEmployeesVersion() {
+        return Long.toString(collectionVersions.employees());
     }
 
+    @Override
+    @Transactional(readOnly = true)
     public List<EmployeeResponse> getAllEmployees() {
-        return employeeRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return employeeRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeResponse> getEmployeesPage(String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        List<EmployeeResponse> rows = employeeRepository.findResponsesAfter(
+                CursorCodec.decode(cursor), PageRequest.ofSize(pageSize + 1));
+
+        List<EmployeeResponse> items = rows.subList(0, Math.min(rows.size(), pageSize));
+        String nextCursor = rows.size() > pageSize
+                ? CursorCodec.encode(items.get(items.size() - 1).getId())
+                : null;
+        return PageResponse.<EmployeeResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Combinable filters with keyset paging; the cursor carries the sort so it cannot be replayed under another one
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria) {
+        SortField sortField = SortField.fromParameter(criteria.getSort());
+        Sort.Direction direction = criteria.getDirection() == null || criteria.getDirection().isBlank()
+                ? Sort.Direction.ASC
+                : Sort.Direction.fromOptionalString(criteria.getDirection())
+                        .orElseThrow(() -> new BadRequestException("Unsupported direction: " + criteria.getDirection()));
+        int pageSize = Math.clamp(criteria.getLimit() == null ? 50 : criteria.getLimit(), 1, MAX_PAGE_SIZE);
+        String sortKey = sortField.attribute() + "," + direction.name();
+
+        List<Specification<Employee>> filters = new ArrayList<>();
+        if (criteria.getDepartmentId() != null) {
+            filters.add(EmployeeSpecifications.inDepartment(criteria.getDepartmentId()));
+        }
+        if (criteria.getName() != null && !criteria.getName().isBlank()) {
+            filters.add(EmployeeSpecifications.nameStartsWith(criteria.getName().trim()));
+        }
+        if (criteria.getEmail() != null && !criteria.getEmail().isBlank()) {
+            filters.add(EmployeeSpecifications.hasEmail(criteria.getEmail().trim()));
+        }
+        if (criteria.getSalaryMin() != null) {
+            filters.add(EmployeeSpecifications.salaryAtLeast(criteria.getSalaryMin()));
+        }
+        if (criteria.getSalaryMax() != null) {
+            filters.add(EmployeeSpecifications.salaryAtMost(criteria.getSalaryMax()));
+        }
+        if (criteria.getJoinedFrom() != null) {
+            filters.add(EmployeeSpecifications.joinedOnOrAfter(criteria.getJoinedFrom()));
+        }
+        if (criteria.getJoinedTo() != null) {
+            filters.add(EmployeeSpecifications.joinedOnOrBefore(criteria.getJoinedTo()));
+        }
+        if (criteria.getCursor() != null && !criteria.getCursor().isBlank()) {
+            String[] cursor = CursorCodec.decode(criteria.getCursor(), 3);
+            if (!cursor[0].equals(sortKey)) {
+                throw new BadRequestException("Cursor does not match the requested sort");
+            }
+            try {
+                filters.add(EmployeeSpecifications.after(sortField, direction, cursor[2], Long.parseLong(cursor[1])));
+            } catch (RuntimeException ex) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        Sort sort = Sort.by(direction, sortField.attribute());
+        if (sortField != SortField.ID) {
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+        List<EmployeeResponse> rows = employeeRepository.search(Specification.allOf(filters), sort, pageSize + 1);
+
+        List<EmployeeResponse> items = rows.subList(0, Math.min(rows.size(), pageSize));
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            EmployeeResponse last = items.get(items.size() - 1);
+            nextCursor = CursorCodec.encode(sortKey, last.getId().toString(), sortField.valueOf(last));
+        }
+        return PageResponse.<EmployeeResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Streams every employee in id order; projected rows are never managed so memory stays flat
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponse> sink) {
+        try (Stream<EmployeeResponse> employees = employeeRepository.streamAllResponses()) {
+            employees.forEach(sink);
+        }
     }
 
     // Salary Adjustment
-    public void adjustSalaries(SalaryAdjustmentRequest request) {
-        Department department = departmentRepository.findById(request.getDepartmentId())
+    @Transactional
+    public SalaryAdjustmentResponse adjustSalaries(SalaryAdjustmentRequest request) {
+        return adjustSalaries(request, null);
+    }
+
+    // A retry carrying the same Idempotency-Key gets the original result back instead of a conflict
+    @Transactional
+    public SalaryAdjustmentResponse adjustSalaries(SalaryAdjustmentRequest request, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<SalaryAdjustmentResponse> previous = idempotencyStore.findResult(idempotencyKey);
+            if (previous.isPresent()) {
+                if (!previous.get().getDepartmentId().equals(request.getDepartmentId())) {
+                    throw new SalaryAdjustmentConflictException("Idempotency key was already used for another department");
+                }
+                return previous.get();
+            }
+        }
+
+        DepartmentResponse department = departmentCache.findById(request.getDepartmentId())
                 .orElseThrow(() -> new EntityNotFoundException("Department not found"));
 
         if (!idempotencyStore.canAdjust(department.getId())) {
-            throw new IllegalStateException("Salary adjustment already performed within last 30 minutes");
+            throw new SalaryAdjustmentConflictException("Salary adjustment already performed within last 30 minutes");
         }
 
-        List<Employee> employees = employeeRepository.findByDepartmentId(department.getId());
+        LocalDate today = LocalDate.now();
+        SalaryAdjustmentResponse result = request.isBulk()
+                ? adjustSalariesInBulk(department.getId(), request.getPerformanceScore(), today)
+                : adjustSalariesPerEmployee(department.getId(), request.getPerformanceScore(), today);
+        serviceMetrics.recordSalaryAdjustment(request.isBulk(), result.getRowsUpdated(), result.getRowsSkipped());
+
+        if (idempotencyKey != null) {
+            idempotencyStore.saveResult(idempotencyKey, result);
+        }
+        return result;
+    }
+
+    private SalaryAdjustmentResponse adjustSalariesPerEmployee(Long departmentId, int performanceScore, LocalDate today) {
+        List<Employee> employees = employeeRepository.findByDepartmentId(departmentId);
+        int size = employees.size();
 
-        for (Employee emp : employees) {
-            BigDecimal newSalary = calculateNewSalary(emp, request.getPerformanceScore());
+        long[] salaryCents = new long[size];
+        long[] joiningEpochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            Employee emp = employees.get(i);
+            salaryCents[i] = SalaryRules.toCents(emp.getSalary());
+            joiningEpochDays[i] = emp.getJoiningDate().toEpochDay();
+        }
+
+        long[] raisedCents = new long[size];
+        long updated = SALARY_RULES.forRun(performanceScore, today).apply(salaryCents, joiningEpochDays, raisedCents);
 
-            if (newSalary.compareTo(emp.getSalary()) > 0) {
-                emp.setSalary(newSalary);
+        UUID runId = UUID.randomUUID();
+        String reason = adjustmentReason(performanceScore);
+        List<SalaryHistory> history = new ArrayList<>((int) updated);
+        List<ChangeEvent> changes = new ArrayList<>((int) updated);
+        long deltaCents = 0;
+        long minCents = Long.MAX_VALUE;
+        long maxCents = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Employee emp = employees.get(i);
+            long newCents = salaryCents[i];
+            if (raisedCents[i] != SalaryRules.NO_RAISE) {
+                newCents = raisedCents[i];
+                deltaCents += newCents - salaryCents[i];
+                BigDecimal oldSalary = emp.getSalary();
+                emp.setSalary(SalaryRules.fromCents(raisedCents[i]));
                 employeeRepository.save(emp);
-                log.info("Salary updated for employee {}: {}", emp.getId(), newSalary);
-            } else {
-                log.warn("No salary increase for employee {} due to performance score < 70", emp.getId());
+                history.add(SalaryHistoryService.salaryChanged(emp.getId(), departmentId, oldSalary, emp.getSalary(),
+                        reason, runId));
+                changes.add(ChangeFeedService.employeeChanged(ChangeEvent.Operation.UPDATED, emp.getId(), departmentId));
             }
+            minCents = Math.min(minCents, newCents);
+            maxCents = Math.max(maxCents, newCents);
+        }
+        salaryHistoryService.record(history);
+        changeFeedService.record(changes);
+        log.info("Salary adjustment {} for department {}: {} updated, {} skipped",
+                runId, departmentId, updated, size - updated);
+        if (updated > 0) {
+            departmentStatsService.salariesAdjusted(departmentId, SalaryRules.fromCents(deltaCents),
+                    SalaryRules.fromCents(minCents), SalaryRules.fromCents(maxCents));
         }
-    }
 
-    private BigDecimal calculateNewSalary(Employee emp, int performanceScore) {
-        BigDecimal currentSalary = emp.getSalary();
-        BigDecimal increasePercent = BigDecimal.ZERO;
+        return SalaryAdjustmentResponse.builder()
+                .departmentId(departmentId)
+                .rowsUpdated(updated)
+                .rowsSkipped(size - updated)
+                .build();
+    }
 
-        // Performance-based adjustment
-        if (performanceScore >= 90) {
-            increasePercent = increasePercent.add(BigDecimal.valueOf(15));
-        } else if (performanceScore >= 70) {
-            increasePercent = increasePercent.add(BigDecimal.valueOf(10));
+    private SalaryAdjustmentResponse adjustSalariesInBulk(Long departmentId, int performanceScore, LocalDate today) {
+        long total = employeeRepository.countByDepartmentId(departmentId);
+        int updated = adjustSalariesInRange(departmentId, performanceScore, today, 0L, Long.MAX_VALUE, UUID.randomUUID());
+        if (updated > 0) {
+            departmentStatsService.refresh(departmentId);
         }
 
-        // Tenure bonus (> 5 years)
-        long years = ChronoUnit.YEARS.between(emp.getJoiningDate(), LocalDate.now());
-        if (years > 5) {
-            increasePercent = increasePercent.add(BigDecimal.valueOf(5));
-        }
+        log.info("Bulk salary adjustment for department {}: {} updated, {} skipped",
+                departmentId, updated, total - updated);
+        return SalaryAdjustmentResponse.builder()
+                .departmentId(departmentId)
+                .rowsUpdated(updated)
+                .rowsSkipped(total - updated)
+                .build();
+    }
 
-        BigDecimal multiplier = BigDecimal.ONE.add(increasePercent.divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
-        BigDecimal newSalary = currentSalary.multiply(multiplier);
+    // One set-based UPDATE over the employee id range (afterId, upToId], preceded by INSERT ... SELECTs of
+    // the same rows into the salary history and the change outbox; callers own the transaction
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int adjustSalariesInRange(Long departmentId, int performanceScore, LocalDate today,
+                                     long afterId, long upToId, UUID runId) {
+        SalaryRules.Run run = SALARY_RULES.forRun(performanceScore, today);
+        salaryHistoryRepository.recordBulkAdjustment(
+                departmentId,
+                afterId,
+                upToId,
+                run.baseMultiplier(),
+                run.tenuredMultiplier(),
+                run.tenureCutoff(),
+                run.cap(),
+                adjustmentReason(performanceScore),
+                runId);
+        changeFeedService.recordBulkAdjustment(departmentId, afterId, upToId, run);
+        return employeeRepository.bulkAdjustSalaries(
+                departmentId,
+                afterId,
+                upToId,
+                run.baseMultiplier(),
+                run.tenuredMultiplier(),
+                run.tenureCutoff(),
+                run.cap());
+    }
+
+    private static String adjustmentReason(int performanceScore) {
+        return "Salary adjustment, performance score " + performanceScore;
+    }
 
-        // Salary cap
-        BigDecimal cap = BigDecimal.valueOf(200_000);
-        if (newSalary.compareTo(cap) > 0) {
-            return cap;
+    private List<String> validateBatchItem(EmployeeRequest request) {
+        if (request == null) {
+            return List.of("Employee entry is required");
+        }
+        List<String> errors = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.toCollection(ArrayList::new));
+        // Not constrained on the request, but NOT NULL in the table; one bad row must not fail the batch
+        if (request.getSalary() == null) {
+            errors.add("salary: Salary is required");
+        }
+        if (request.getJoiningDate() == null) {
+            errors.add("joiningDate: Joining date is required");
         }
-        return newSalary;
+        return errors;
     }
 
-    private EmployeeResponse mapToResponse(Employee emp) {
+    // The department comes from the cache, so the (possibly uninitialised) association is never touched
+    EmployeeResponse mapToResponse(Employee emp, DepartmentResponse department) {
         return EmployeeResponse.builder()
                 .id(emp.getId())
                 .name(emp.getName())
                 .email(emp.getEmail())
                 .salary(emp.getSalary())
                 .joiningDate(emp.getJoiningDate())
-                .departmentId(emp.getDepartment().getId())
-                .departmentName(emp.getDepartment().getName())
+                .departmentId(department.getId())
+                .departmentName(department.getName())
                 .build();
     }
 }
\ No newline at end of file
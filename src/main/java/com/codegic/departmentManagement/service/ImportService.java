@@ -0,0 +1,139 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.*;
+import com.codegic.departmentManagement.util.CsvSupport;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Streams CSV/NDJSON uploads row by row and commits them in chunks through the batch create paths
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    private static final int MAX_CHUNK_SIZE = 1000;
+    private static final int MAX_REJECTED_ROWS_REPORTED = 1000;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    private final EmployeeService employeeService;
+    private final DepartmentService departmentService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.chunk-size:500}")
+    private int defaultChunkSize;
+
+    public ImportResponse importEmployees(InputStream input, MediaType contentType, Integer chunkSize, boolean upsert)
+            throws IOException {
+        return importRows(input, contentType, chunkSize, EmployeeRequest.class,
+                chunk -> employeeService.createEmployees(chunk, upsert));
+    }
+
+    public ImportResponse importDepartments(InputStream input, MediaType contentType, Integer chunkSize)
+            throws IOException {
+        return importRows(input, contentType, chunkSize, DepartmentRequest.class, departmentService::createDepartments);
+    }
+
+    private <T> ImportResponse importRows(InputStream input, MediaType contentType, Integer chunkSize, Class<T> rowType,
+                                          Function<List<T>, BatchResponse> writer) throws IOException {
+        int size = Math.clamp(chunkSize != null ? chunkSize : defaultChunkSize, 1, MAX_CHUNK_SIZE);
+        ImportResponse report = ImportResponse.builder().rejectedRows(new ArrayList<>()).build();
+        List<T> chunk = new ArrayList<>(size);
+        List<Long> lines = new ArrayList<>(size);
+
+        try (MappingIterator<T> rows = readerFor(contentType, rowType).readValues(input)) {
+            while (true) {
+                long line = 0;
+                T row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    // The row's line once its first token is read; before that the JSON parser is still at the end of the
+                    // previous line, the CSV parser already past it
+                    line = rows.getCurrentLocation().getLineNr();
+                    row = rows.nextValue();
+                } catch (JsonParseException ex) {
+                    // Malformed input: the parser cannot resynchronise, keep what was committed so far
+                    report.setRowsRead(report.getRowsRead() + 1);
+                    reject(report, line > 0 ? line : ex.getLocation().getLineNr(),
+                            List.of("Unreadable row, import stopped: " + ex.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException ex) {
+                    report.setRowsRead(report.getRowsRead() + 1);
+                    reject(report, line > 0 ? line : ex.getLocation().getLineNr(),
+                            List.of("Invalid value: " + ex.getOriginalMessage()));
+                    continue;
+                }
+
+                report.setRowsRead(report.getRowsRead() + 1);
+                chunk.add(row);
+                lines.add(line);
+                if (chunk.size() == size) {
+                    writeChunk(chunk, lines, writer, report);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, lines, writer, report);
+        }
+
+        log.info("Import of {} finished: {} read, {} imported, {} rejected in {} chunks", rowType.getSimpleName(),
+                report.getRowsRead(), report.getRowsImported(), report.getRowsRejected(), report.getChunksCommitted());
+        return report;
+    }
+
+    private <T> void writeChunk(List<T> chunk, List<Long> lines, Function<List<T>, BatchResponse> writer,
+                                ImportResponse report) {
+        try {
+            BatchResponse result = writer.apply(chunk);
+            report.setRowsImported(report.getRowsImported() + result.getCreated() + result.getUpdated());
+            report.setChunksCommitted(report.getChunksCommitted() + 1);
+            for (BatchItemResult item : result.getResults()) {
+                if (item.getStatus() == BatchItemResult.Status.REJECTED) {
+                    reject(report, lines.get(item.getIndex()), item.getErrors());
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Import chunk starting at line {} rolled back", lines.get(0), ex);
+            for (Long line : lines) {
+                reject(report, line, List.of("Chunk rolled back: " + ex.getMostSpecificCause().getMessage()));
+            }
+        }
+        chunk.clear();
+        lines.clear();
+    }
+
+    private void reject(ImportResponse report, long line, List<String> errors) {
+        report.setRowsRejected(report.getRowsRejected() + 1);
+        if (report.getRejectedRows().size() < MAX_REJECTED_ROWS_REPORTED) {
+            report.getRejectedRows().add(new ImportRejectedRow(line, errors));
+        } else {
+            report.setRejectedRowsTruncated(true);
+        }
+    }
+
+    private ObjectReader readerFor(MediaType contentType, Class<?> rowType) {
+        if (contentType != null && contentType.isCompatibleWith(TEXT_CSV)) {
+            return CsvSupport.MAPPER.readerFor(rowType).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(rowType);
+    }
+}
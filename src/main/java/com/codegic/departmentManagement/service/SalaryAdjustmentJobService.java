@@ -0,0 +1,269 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentJobResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.entity.SalaryAdjustmentJob;
+import com.codegic.departmentManagement.exception.SalaryAdjustmentConflictException;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.codegic.departmentManagement.repository.SalaryAdjustmentJobRepository;
+import com.codegic.departmentManagement.util.IdempotencyStore;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Runs salary adjustments in the background, one committed chunk of employees at a time. Each active job is
+// leased to one instance, so after a crash or restart exactly one instance picks it up again
+@Service
+public class SalaryAdjustmentJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalaryAdjustmentJobService.class);
+
+    private static final Set<SalaryAdjustmentJob.Status> ACTIVE =
+            EnumSet.of(SalaryAdjustmentJob.Status.PENDING, SalaryAdjustmentJob.Status.RUNNING);
+
+    private final SalaryAdjustmentJobRepository jobRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeService employeeService;
+    private final DepartmentCache departmentCache;
+    private final DepartmentStatsService departmentStatsService;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final String instanceId;
+    private final Duration lease;
+    // Jobs queued or running on this instance, so the resume check does not queue them a second time
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    public SalaryAdjustmentJobService(SalaryAdjustmentJobRepository jobRepository,
+                                      EmployeeRepository employeeRepository,
+                                      EmployeeService employeeService,
+                                      DepartmentCache departmentCache,
+                                      DepartmentStatsService departmentStatsService,
+                                      IdempotencyStore idempotencyStore,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.salary-jobs.workers:2}") int workers,
+                                      @Value("${app.salary-jobs.queue-capacity:100}") int queueCapacity,
+                                      @Value("${app.salary-jobs.chunk-size:1000}") int chunkSize,
+                                      @Value("${app.salary-jobs.instance-id:${random.uuid}}") String instanceId,
+                                      @Value("${app.salary-jobs.lease:2m}") Duration lease) {
+        this.jobRepository = jobRepository;
+        this.employeeRepository = employeeRepository;
+        this.employeeService = employeeService;
+        this.departmentCache = departmentCache;
+        this.departmentStatsService = departmentStatsService;
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.instanceId = instanceId;
+        this.lease = lease;
+
+        // Owned here rather than exposed as a bean, so Boot's applicationTaskExecutor stays in place
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("salary-job-");
+        executor.initialize();
+    }
+
+    public SalaryAdjustmentJobResponse submit(SalaryAdjustmentRequest request) {
+        DepartmentResponse department = departmentCache.findById(request.getDepartmentId())
+                .orElseThrow(() -> new EntityNotFoundException("Department not found"));
+
+        if (!idempotencyStore.canAdjust(department.getId())) {
+            throw new SalaryAdjustmentConflictException("Salary adjustment already performed within last 30 minutes");
+        }
+
+        Instant now = Instant.now();
+        SalaryAdjustmentJob job = jobRepository.save(SalaryAdjustmentJob.builder()
+                .departmentId(department.getId())
+                .performanceScore(request.getPerformanceScore())
+                .asOfDate(LocalDate.now())
+                .status(SalaryAdjustmentJob.Status.PENDING)
+                .totalEmployees(employeeRepository.countByDepartmentId(department.getId()))
+                .lastEmployeeId(0L)
+                .owner(instanceId)
+                .leaseExpiresAt(now.plus(lease))
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        try {
+            start(job.getId());
+        } catch (TaskRejectedException ex) {
+            transactionTemplate.executeWithoutResult(status -> finish(job.getId(),
+                    SalaryAdjustmentJob.Status.FAILED, "Job queue is full"));
+            throw new IllegalStateException("Too many salary adjustment jobs queued, try again later");
+        }
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public SalaryAdjustmentJobResponse getJob(UUID id) {
+        return jobRepository.findById(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new EntityNotFoundException("Salary adjustment job not found"));
+    }
+
+    // Stops the job before its next chunk; chunks committed so far stay applied
+    @Transactional
+    public SalaryAdjustmentJobResponse cancel(UUID id) {
+        SalaryAdjustmentJob job = jobRepository.findForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Salary adjustment job not found"));
+        if (!ACTIVE.contains(job.getStatus())) {
+            throw new IllegalStateException("Salary adjustment job already " + job.getStatus().name().toLowerCase());
+        }
+        job.setStatus(SalaryAdjustmentJob.Status.CANCELLED);
+        job.setUpdatedAt(Instant.now());
+        return toResponse(job);
+    }
+
+    // Jobs interrupted by a crash or restart continue after their last committed chunk, on whichever instance
+    // claims them first once their lease has run out. Checked at startup and then periodically, since a job's
+    // lease may still be live when its instance restarts
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.salary-jobs.resume-interval:1m}",
+            fixedDelayString = "${app.salary-jobs.resume-interval:1m}")
+    public void resumeInterruptedJobs() {
+        for (SalaryAdjustmentJob job : jobRepository.findByStatusIn(ACTIVE)) {
+            if (inFlight.contains(job.getId())) {
+                continue;
+            }
+            Instant now = Instant.now();
+            Integer claimed = transactionTemplate.execute(status ->
+                    jobRepository.claim(job.getId(), ACTIVE, instanceId, now.plus(lease), now));
+            if (claimed == null || claimed == 0) {
+                continue;
+            }
+            log.info("Resuming salary adjustment job {} after employee {}", job.getId(), job.getLastEmployeeId());
+            try {
+                start(job.getId());
+            } catch (TaskRejectedException ex) {
+                // Left for the next check or another instance rather than failing startup
+                transactionTemplate.executeWithoutResult(status -> jobRepository.release(job.getId(), instanceId));
+                log.warn("Salary job queue is full, {} not resumed yet", job.getId());
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void start(UUID jobId) {
+        inFlight.add(jobId);
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (TaskRejectedException ex) {
+            inFlight.remove(jobId);
+            throw ex;
+        }
+    }
+
+    private void run(UUID jobId) {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processNextChunk(jobId)))) {
+                // next chunk
+            }
+        } catch (RuntimeException ex) {
+            log.error("Salary adjustment job {} failed", jobId, ex);
+            transactionTemplate.executeWithoutResult(status ->
+                    finish(jobId, SalaryAdjustmentJob.Status.FAILED, ex.getMessage()));
+        } finally {
+            inFlight.remove(jobId);
+        }
+    }
+
+    // Adjusts the next chunk and records progress in the same transaction, so a chunk is applied exactly once
+    private boolean processNextChunk(UUID jobId) {
+        SalaryAdjustmentJob job = jobRepository.findForUpdate(jobId).orElse(null);
+        if (job == null) {
+            return false;
+        }
+        if (!instanceId.equals(job.getOwner())) {
+            // Our lease ran out while the job waited in the queue and another instance has taken it over
+            log.info("Salary adjustment job {} is now run by {}", jobId, job.getOwner());
+            return false;
+        }
+        if (job.getStatus() == SalaryAdjustmentJob.Status.CANCELLED) {
+            departmentStatsService.refresh(job.getDepartmentId());
+            return false;
+        }
+        if (!ACTIVE.contains(job.getStatus())) {
+            return false;
+        }
+
+        Long upToId = employeeRepository.findChunkUpperBound(job.getDepartmentId(), job.getLastEmployeeId(), chunkSize);
+        if (upToId == null) {
+            // Chunks only touch employee rows; the department's salary stats are rebuilt once at the end
+            departmentStatsService.refresh(job.getDepartmentId());
+            job.setStatus(SalaryAdjustmentJob.Status.COMPLETED);
+            job.setUpdatedAt(Instant.now());
+            log.info("Salary adjustment job {} completed: {} of {} employees updated",
+                    jobId, job.getUpdatedEmployees(), job.getProcessedEmployees());
+            return false;
+        }
+
+        long inChunk = employeeRepository.countByDepartmentIdAndIdGreaterThanAndIdLessThanEqual(
+                job.getDepartmentId(), job.getLastEmployeeId(), upToId);
+        int updated = employeeService.adjustSalariesInRange(job.getDepartmentId(), job.getPerformanceScore(),
+                job.getAsOfDate(), job.getLastEmployeeId(), upToId, job.getId());
+
+        // The bulk UPDATE clears the persistence context, so the job is saved back explicitly
+        job.setStatus(SalaryAdjustmentJob.Status.RUNNING);
+        job.setProcessedEmployees(job.getProcessedEmployees() + inChunk);
+        job.setUpdatedEmployees(job.getUpdatedEmployees() + updated);
+        job.setLastEmployeeId(upToId);
+        job.setUpdatedAt(Instant.now());
+        job.setLeaseExpiresAt(job.getUpdatedAt().plus(lease));
+        jobRepository.save(job);
+        return true;
+    }
+
+    private void finish(UUID jobId, SalaryAdjustmentJob.Status status, String error) {
+        jobRepository.findForUpdate(jobId).ifPresent(job -> {
+            departmentStatsService.refresh(job.getDepartmentId());
+            job.setStatus(status);
+            job.setError(error);
+            job.setUpdatedAt(Instant.now());
+        });
+    }
+
+    private SalaryAdjustmentJobResponse toResponse(SalaryAdjustmentJob job) {
+        return SalaryAdjustmentJobResponse.builder()
+                .id(job.getId())
+                .departmentId(job.getDepartmentId())
+                .performanceScore(job.getPerformanceScore())
+                .status(job.getStatus().name())
+                .totalEmployees(job.getTotalEmployees())
+                .processedEmployees(job.getProcessedEmployees())
+                .updatedEmployees(job.getUpdatedEmployees())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.dto.SalaryHistoryResponse;
+import com.codegic.departmentManagement.entity.SalaryHistory;
+import com.codegic.departmentManagement.repository.SalaryHistoryRepository;
+import com.codegic.departmentManagement.util.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SalaryHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final SalaryHistoryRepository salaryHistoryRepository;
+    private final SalaryHistoryWriter salaryHistoryWriter;
+
+    public static SalaryHistory salaryChanged(Long employeeId, Long departmentId, BigDecimal oldSalary,
+                                              BigDecimal newSalary, String reason, UUID runId) {
+        return event(employeeId, departmentId, SalaryHistory.EventType.SALARY_CHANGED, oldSalary, newSalary, reason, runId);
+    }
+
+    public static SalaryHistory employeeDeleted(Long employeeId, Long departmentId, BigDecimal salary, String reason) {
+        return event(employeeId, departmentId, SalaryHistory.EventType.EMPLOYEE_DELETED, salary, null, reason, null);
+    }
+
+    // Handed to the write-behind queue once the surrounding transaction commits; a rollback leaves no history
+    public void record(List<SalaryHistory> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            salaryHistoryWriter.submit(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                salaryHistoryWriter.submit(events);
+            }
+        });
+    }
+
+    // Newest first; events reach the table shortly after their transaction commits
+    @Transactional(readOnly = true)
+    public PageResponse<SalaryHistoryResponse> getHistory(Long employeeId, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : CursorCodec.decode(cursor);
+        List<SalaryHistory> rows = salaryHistoryRepository.findByEmployeeIdAndIdLessThanOrderByIdDesc(
+                employeeId, beforeId, Limit.of(pageSize + 1));
+
+        List<SalaryHistoryResponse> items = rows.stream()
+                .limit(pageSize)
+                .map(SalaryHistoryService::toResponse)
+                .collect(Collectors.toList());
+        String nextCursor = rows.size() > pageSize
+                ? CursorCodec.encode(items.get(items.size() - 1).getId())
+                : null;
+        return PageResponse.<SalaryHistoryResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static SalaryHistory event(Long employeeId, Long departmentId, SalaryHistory.EventType eventType,
+                                       BigDecimal oldSalary, BigDecimal newSalary, String reason, UUID runId) {
+        return SalaryHistory.builder()
+                .employeeId(employeeId)
+                .departmentId(departmentId)
+                .eventType(eventType)
+                .oldSalary(oldSalary)
+                .newSalary(newSalary)
+                .reason(reason)
+                .runId(runId)
+                .recordedAt(Instant.now())
+                .build();
+    }
+
+    private static SalaryHistoryResponse toResponse(SalaryHistory history) {
+        return SalaryHistoryResponse.builder()
+                .id(history.getId())
+                .employeeId(history.getEmployeeId())
+                .departmentId(history.getDepartmentId())
+                .eventType(history.getEventType().name())
+                .oldSalary(history.getOldSalary())
+                .newSalary(history.getNewSalary())
+                .reason(history.getReason())
+                .runId(history.getRunId())
+                .recordedAt(history.getRecordedAt())
+                .build();
+    }
+}
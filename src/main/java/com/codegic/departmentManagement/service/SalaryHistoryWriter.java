@@ -0,0 +1,201 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.entity.SalaryHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Write-behind for salary history: committed events go into a bounded queue and one background thread
+ * inserts them in JDBC batches. Back-pressure and shutdown do not lose events:
+ * - a full queue makes the caller wait up to offer-timeout, then write its remaining events itself;
+ * - stop() runs after the web server has stopped, drains the queue and writes what is left, and anything
+ *   submitted after that is written on the caller thread.
+ * Events are lost in two cases: a batch the database still rejects after WRITE_ATTEMPTS is logged and dropped
+ * (counted in salary.history.dropped), and events still queued when the process is killed outright are gone.
+ * The history lags commits by one batch.
+ */
+@Component
+public class SalaryHistoryWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SalaryHistoryWriter.class);
+
+    private static final String INSERT = """
+            INSERT INTO salary_history (employee_id, department_id, event_type, old_salary, new_salary, reason, run_id, recorded_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final long POLL_MILLIS = 200;
+    private static final int WRITE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<SalaryHistory> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public SalaryHistoryWriter(JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.salary-history.queue-capacity:10000}") int queueCapacity,
+                               @Value("${app.salary-history.batch-size:500}") int batchSize,
+                               @Value("${app.salary-history.offer-timeout:2s}") Duration offerTimeout,
+                               @Value("${app.salary-history.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("salary.history.queue.size", queue, BlockingQueue::size)
+                .description("Salary history events waiting to be written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("salary.history.dropped")
+                .description("Salary history events discarded after every write attempt failed")
+                .register(meterRegistry);
+    }
+
+    public void submit(List<SalaryHistory> events) {
+        if (!running) {
+            write(events);
+            return;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            boolean queued;
+            try {
+                queued = queue.offer(events.get(i), offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (!queued) {
+                log.warn("Salary history queue is full, writing {} events on the caller thread", events.size() - i);
+                write(events.subList(i, events.size()));
+                break;
+            }
+        }
+        // Raced with stop(): the worker may already be gone, so pick up whatever it left behind
+        if (!running) {
+            drain();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("salary-history-writer").daemon(true).start(this::work);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (worker != null) {
+                worker.join(shutdownTimeout.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Lower phases stop later. Boot's graceful shutdown runs at DEFAULT_PHASE - 1024 and the web server stops at
+    // DEFAULT_PHASE - 2048, so this stops only once no request can queue history any more
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void work() {
+        List<SalaryHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                SalaryHistory first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drain() {
+        List<SalaryHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<SalaryHistory> events) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT, events, events.size(), (statement, event) -> {
+                    statement.setLong(1, event.getEmployeeId());
+                    statement.setLong(2, event.getDepartmentId());
+                    statement.setString(3, event.getEventType().name());
+                    statement.setBigDecimal(4, event.getOldSalary());
+                    statement.setBigDecimal(5, event.getNewSalary());
+                    statement.setString(6, event.getReason());
+                    statement.setObject(7, event.getRunId());
+                    statement.setObject(8, OffsetDateTime.ofInstant(event.getRecordedAt(), ZoneOffset.UTC));
+                });
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt == WRITE_ATTEMPTS) {
+                    // Last resort: the log keeps the trail when the table cannot
+                    log.error("Dropping {} salary history events after {} attempts: {}",
+                            events.size(), attempt, describe(events), ex);
+                    dropped.increment(events.size());
+                    return;
+                }
+                log.warn("Writing {} salary history events failed, retrying", events.size(), ex);
+                try {
+                    Thread.sleep(attempt * 500L);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static String describe(List<SalaryHistory> events) {
+        StringBuilder description = new StringBuilder();
+        for (SalaryHistory event : events) {
+            if (!description.isEmpty()) {
+                description.append(", ");
+            }
+            description.append(event.getEmployeeId()).append(':').append(event.getEventType())
+                    .append(':').append(event.getOldSalary()).append("->").append(event.getNewSalary());
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import com.codegic.departmentManagement.dto.SalaryReviewRequest;
+import com.codegic.departmentManagement.dto.SalaryReviewResponse;
+import com.codegic.departmentManagement.dto.SalaryReviewResult;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.exception.SalaryAdjustmentConflictException;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Adjusts many departments at once: each department runs in its own transaction through
+// EmployeeService.adjustSalaries, so the per-department idempotency window still applies
+@Service
+public class SalaryReviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalaryReviewService.class);
+
+    private final EmployeeService employeeService;
+    private final DepartmentRepository departmentRepository;
+    private final ThreadPoolTaskExecutor executor;
+
+    public SalaryReviewService(EmployeeService employeeService,
+                               DepartmentRepository departmentRepository,
+                               @Value("${app.salary-review.parallelism:4}") int parallelism) {
+        this.employeeService = employeeService;
+        this.departmentRepository = departmentRepository;
+
+        // Every worker holds a JDBC connection, so keep parallelism well below the Hikari pool size
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("salary-review-");
+        executor.initialize();
+    }
+
+    public SalaryReviewResponse review(SalaryReviewRequest request) {
+        List<SalaryAdjustmentRequest> adjustments = plan(request);
+        long start = System.nanoTime();
+
+        List<CompletableFuture<SalaryReviewResult>> futures = new ArrayList<>(adjustments.size());
+        for (SalaryAdjustmentRequest adjustment : adjustments) {
+            futures.add(CompletableFuture.supplyAsync(() -> adjust(adjustment), executor));
+        }
+        List<SalaryReviewResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        SalaryReviewResponse response = SalaryReviewResponse.of(results, elapsedMillis);
+        log.info("Salary review of {} departments: {} adjusted, {} rejected in {} ms",
+                results.size(), response.getDepartmentsAdjusted(), response.getDepartmentsRejected(), elapsedMillis);
+        return response;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Explicit departments first, then every remaining department at the default score. The review's bulk flag
+    // applies to all of them; a listed department can also ask for bulk mode on its own
+    private List<SalaryAdjustmentRequest> plan(SalaryReviewRequest request) {
+        Map<Long, SalaryAdjustmentRequest> adjustments = new LinkedHashMap<>();
+        if (request.getDepartments() != null) {
+            for (SalaryAdjustmentRequest listed : request.getDepartments()) {
+                SalaryAdjustmentRequest adjustment = SalaryAdjustmentRequest.builder()
+                        .departmentId(listed.getDepartmentId())
+                        .performanceScore(listed.getPerformanceScore())
+                        .bulk(listed.isBulk() || request.isBulk())
+                        .build();
+                if (adjustments.putIfAbsent(adjustment.getDepartmentId(), adjustment) != null) {
+                    throw new BadRequestException("Department " + adjustment.getDepartmentId() + " is listed more than once");
+                }
+            }
+        }
+
+        if (request.isAllDepartments()) {
+            if (request.getDefaultPerformanceScore() == null) {
+                throw new BadRequestException("defaultPerformanceScore is required when allDepartments is set");
+            }
+            for (Long departmentId : departmentRepository.findAllIds()) {
+                adjustments.computeIfAbsent(departmentId, id -> SalaryAdjustmentRequest.builder()
+                        .departmentId(id)
+                        .performanceScore(request.getDefaultPerformanceScore())
+                        .bulk(request.isBulk())
+                        .build());
+            }
+        }
+
+        if (adjustments.isEmpty()) {
+            throw new BadRequestException("No departments to adjust");
+        }
+        return new ArrayList<>(adjustments.values());
+    }
+
+    private SalaryReviewResult adjust(SalaryAdjustmentRequest adjustment) {
+        SalaryReviewResult.SalaryReviewResultBuilder result = SalaryReviewResult.builder()
+                .departmentId(adjustment.getDepartmentId())
+                .performanceScore(adjustment.getPerformanceScore());
+        try {
+            SalaryAdjustmentResponse response = employeeService.adjustSalaries(adjustment);
+            return result.status(SalaryReviewResult.Status.ADJUSTED)
+                    .rowsUpdated(response.getRowsUpdated())
+                    .rowsSkipped(response.getRowsSkipped())
+                    .build();
+        } catch (EntityNotFoundException ex) {
+            return result.status(SalaryReviewResult.Status.NOT_FOUND).error(ex.getMessage()).build();
+        } catch (SalaryAdjustmentConflictException ex) {
+            return result.status(SalaryReviewResult.Status.CONFLICT).error(ex.getMessage()).build();
+        } catch (RuntimeException ex) {
+            log.error("Salary adjustment for department {} failed", adjustment.getDepartmentId(), ex);
+            return result.status(SalaryReviewResult.Status.FAILED).error(ex.getMessage()).build();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.codegic.departmentManagement.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+// Immutable raise rules: performance tiers, tenure bonus and cap.
+// A Run fixes the score and as-of date once, then evaluates salaries as cents without allocating per employee.
+final class SalaryRules {
+
+    // Marks an employee that gets no raise in Run.apply's output
+    static final long NO_RAISE = -1;
+
+    static final SalaryRules DEFAULT = new SalaryRules(
+            new int[]{90, 70}, new int[]{15, 10}, 5, 5, 200_000_00L);
+
+    private final int[] tierMinScores;  // descending
+    private final int[] tierPercents;
+    private final int tenureThresholdYears;
+    private final int tenureBonusPercent;
+    private final long capCents;
+    private final BigDecimal cap;
+
+    SalaryRules(int[] tierMinScores, int[] tierPercents, int tenureThresholdYears, int tenureBonusPercent,
+                long capCents) {
+        if (tierMinScores.length != tierPercents.length) {
+            throw new IllegalArgumentException("Every tier needs a percentage");
+        }
+        this.tierMinScores = tierMinScores.clone();
+        this.tierPercents = tierPercents.clone();
+        this.tenureThresholdYears = tenureThresholdYears;
+        this.tenureBonusPercent = tenureBonusPercent;
+        this.capCents = capCents;
+        this.cap = BigDecimal.valueOf(capCents, 2);
+    }
+
+    int increasePercent(int performanceScore) {
+        for (int i = 0; i < tierMinScores.length; i++) {
+            if (performanceScore >= tierMinScores[i]) {
+                return tierPercents[i];
+            }
+        }
+        return 0;
+    }
+
+    BigDecimal cap() {
+        return cap;
+    }
+
+    Run forRun(int performanceScore, LocalDate asOf) {
+        int percent = increasePercent(performanceScore);
+        return new Run(percent, percent + tenureBonusPercent,
+                // More than tenureThresholdYears whole years, i.e. joined on or before this date
+                asOf.minusYears(tenureThresholdYears + 1L), capCents, cap);
+    }
+
+    // Salaries are NUMERIC(15,2), which rounds half up on store. Requests are rounded the same way before the
+    // value reaches the entity, the department stats, the history or the change feed, so all of them agree
+    static BigDecimal scaled(BigDecimal salary) {
+        return salary == null ? null : salary.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Salaries are NUMERIC(15,2); cents fit a long with room for the percentage factor
+    static long toCents(BigDecimal salary) {
+        return salary.movePointRight(2).longValueExact();
+    }
+
+    static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    static final class Run {
+        private final long baseFactor;     // 100 + percent
+        private final long tenuredFactor;
+        private final long capScaled;      // cap in 1/10000 units, the scale of salary * factor
+        private final LocalDate tenureCutoff;
+        private final long tenureCutoffEpochDay;
+        private final BigDecimal baseMultiplier;
+        private final BigDecimal tenuredMultiplier;
+        private final BigDecimal cap;
+
+        private Run(int basePercent, int tenuredPercent, LocalDate tenureCutoff, long capCents, BigDecimal cap) {
+            this.baseFactor = 100L + basePercent;
+            this.tenuredFactor = 100L + tenuredPercent;
+            this.capScaled = capCents * 100;
+            this.tenureCutoff = tenureCutoff;
+            this.tenureCutoffEpochDay = tenureCutoff.toEpochDay();
+            this.baseMultiplier = BigDecimal.valueOf(baseFactor, 2);
+            this.tenuredMultiplier = BigDecimal.valueOf(tenuredFactor, 2);
+            this.cap = cap;
+        }
+
+        LocalDate tenureCutoff() {
+            return tenureCutoff;
+        }
+
+        BigDecimal baseMultiplier() {
+            return baseMultiplier;
+        }
+
+        BigDecimal tenuredMultiplier() {
+            return tenuredMultiplier;
+        }
+
+        BigDecimal cap() {
+            return cap;
+        }
+
+        boolean isTenured(long joiningEpochDay) {
+            return joiningEpochDay <= tenureCutoffEpochDay;
+        }
+
+        // New salary in cents, or NO_RAISE. Same as min(salary * multiplier, cap) > salary on NUMERIC values,
+        // stored half-up to 2 decimals the way a NUMERIC(15,2) column rounds it.
+        long raisedCents(long salaryCents, boolean tenured) {
+            long raised = Math.min(salaryCents * (tenured ? tenuredFactor : baseFactor), capScaled);
+            if (raised <= salaryCents * 100) {
+                return NO_RAISE;
+            }
+            return (raised + 50) / 100;
+        }
+
+        // Scores a whole department in one pass; returns how many employees get a raise
+        int apply(long[] salaryCents, long[] joiningEpochDays, long[] raisedCents) {
+            int raises = 0;
+            for (int i = 0; i < salaryCents.length; i++) {
+                long raised = raisedCents(salaryCents[i], joiningEpochDays[i] <= tenureCutoffEpochDay);
+                raisedCents[i] = raised;
+                if (raised != NO_RAISE) {
+                    raises++;
+                }
+            }
+            return raises;
+        }
+    }
+}
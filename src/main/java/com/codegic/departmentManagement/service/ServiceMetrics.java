@@ -0,0 +1,45 @@
+package com.codegic.departmentManagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// Application meters. Service methods are timed through @Timed(TIMER), tagged with class and method;
+// salary adjustment runs also count the rows they touched, split by mode (bulk SQL or per employee)
+@Component
+public class ServiceMetrics {
+
+    public static final String TIMER = "app.service";
+
+    private final Counter bulkUpdated;
+    private final Counter bulkSkipped;
+    private final Counter perEmployeeUpdated;
+    private final Counter perEmployeeSkipped;
+    private final DistributionSummary updatedPerRun;
+
+    public ServiceMetrics(MeterRegistry registry) {
+        this.bulkUpdated = rows(registry, "bulk", "updated");
+        this.bulkSkipped = rows(registry, "bulk", "skipped");
+        this.perEmployeeUpdated = rows(registry, "per-employee", "updated");
+        this.perEmployeeSkipped = rows(registry, "per-employee", "skipped");
+        this.updatedPerRun = DistributionSummary.builder("salary.adjustment.run.rows")
+                .description("Employees whose salary changed in one adjustment run")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void recordSalaryAdjustment(boolean bulk, long updated, long skipped) {
+        (bulk ? bulkUpdated : perEmployeeUpdated).increment(updated);
+        (bulk ? bulkSkipped : perEmployeeSkipped).increment(skipped);
+        updatedPerRun.record(updated);
+    }
+
+    private static Counter rows(MeterRegistry registry, String mode, String result) {
+        return Counter.builder("salary.adjustment.rows")
+                .description("Employees visited by salary adjustment runs")
+                .tag("mode", mode)
+                .tag("result", result)
+                .register(registry);
+    }
+}
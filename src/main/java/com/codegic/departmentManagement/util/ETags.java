@@ -0,0 +1,12 @@
+package com.codegic.departmentManagement.util;
+
+// Weak validators: the same version is equivalent however it is encoded or compressed on the wire
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String weak(Object version) {
+        return "W/\"" + version + "\"";
+    }
+}
@@ -1,22 +1,18 @@
 package com.codegic.departmentManagement.util;
 
-import org.springframework.stereotype.Component;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
 
-import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
-@Component
-public class IdempotencyStore {
+// Guards salary adjustments against repeats; selected with app.idempotency.store=memory|jdbc
+public interface IdempotencyStore {
 
-    private final ConcurrentHashMap<Long, Instant> lastAdjustmentMap = new ConcurrentHashMap<>();
+    // Atomically claims the adjustment window for a department, false if it was claimed within the window
+    boolean canAdjust(Long departmentId);
 
-    public boolean canAdjust(Long departmentId) {
-        Instant now = Instant.now();
-        Instant last = lastAdjustmentMap.get(departmentId);
-        if (last == null || now.isAfter(last.plusSeconds(1800))) {
-            lastAdjustmentMap.put(departmentId, now);
-            return true;
-        }
-        return false;
-    }
-}
\ No newline at end of file
+    // Result previously recorded for a client supplied Idempotency-Key
+    Optional<SalaryAdjustmentResponse> findResult(String idempotencyKey);
+
+    // Called inside the adjustment transaction; the result only becomes visible once it commits
+    void saveResult(String idempotencyKey, SalaryAdjustmentResponse result);
+}
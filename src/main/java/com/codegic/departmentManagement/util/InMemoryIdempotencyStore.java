@@ -0,0 +1,90 @@
+package com.codegic.departmentManagement.util;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Single-node store: claims are atomic per key, expired entries are purged on a schedule
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private record StoredResult(SalaryAdjustmentResponse result, Instant createdAt) {
+    }
+
+    private final ConcurrentHashMap<Long, Instant> lastAdjustmentMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StoredResult> results = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final Clock clock;
+
+    @Autowired
+    public InMemoryIdempotencyStore(@Value("${app.idempotency.window:30m}") Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    public InMemoryIdempotencyStore(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean canAdjust(Long departmentId) {
+        Instant now = clock.instant();
+        boolean[] claimed = new boolean[1];
+        // compute runs atomically per key, so exactly one caller can move the timestamp forward
+        lastAdjustmentMap.compute(departmentId, (id, last) -> {
+            if (last == null || isExpired(last, now)) {
+                claimed[0] = true;
+                return now;
+            }
+            return last;
+        });
+        return claimed[0];
+    }
+
+    @Override
+    public Optional<SalaryAdjustmentResponse> findResult(String idempotencyKey) {
+        StoredResult stored = results.get(idempotencyKey);
+        if (stored == null || isExpired(stored.createdAt(), clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.result());
+    }
+
+    @Override
+    public void saveResult(String idempotencyKey, SalaryAdjustmentResponse result) {
+        Runnable save = () -> results.putIfAbsent(idempotencyKey, new StoredResult(result, clock.instant()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    save.run();
+                }
+            });
+        } else {
+            save.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:5m}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        lastAdjustmentMap.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+        results.entrySet().removeIf(entry -> isExpired(entry.getValue().createdAt(), now));
+    }
+
+    private boolean isExpired(Instant since, Instant now) {
+        return now.isAfter(since.plus(window));
+    }
+}
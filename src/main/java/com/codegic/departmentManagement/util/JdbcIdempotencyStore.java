@@ -0,0 +1,100 @@
+package com.codegic.departmentManagement.util;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+// Cluster-safe store: claims are conditional writes on salary_adjustment_locks, shared by all replicas.
+// Tables come from V1_1__salary_adjustment_idempotency.sql.
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration window;
+    private final Clock clock;
+
+    @Autowired
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                @Value("${app.idempotency.window:30m}") Duration window) {
+        this(jdbcTemplate, window, Clock.systemUTC());
+    }
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration window, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    // Own transaction: the claim stands even if the adjustment itself fails, like the in-memory store. Called
+    // from inside adjustSalaries, so it suspends that transaction and takes a second pooled connection while the
+    // first is held: each concurrent adjustment briefly needs two connections, which the pool and the request
+    // bulkhead must leave room for (see app.bulkhead.max-concurrent)
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean canAdjust(Long departmentId) {
+        Instant now = clock.instant();
+        int claimed = jdbcTemplate.update(
+                "UPDATE salary_adjustment_locks SET acquired_at = ? WHERE department_id = ? AND acquired_at < ?",
+                utc(now), departmentId, utc(now.minus(window)));
+        if (claimed == 1) {
+            return true;
+        }
+        // A concurrent claimer that already holds the row wins the conflict, so at most one insert succeeds
+        return jdbcTemplate.update(
+                "INSERT INTO salary_adjustment_locks (department_id, acquired_at) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                departmentId, utc(now)) == 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SalaryAdjustmentResponse> findResult(String idempotencyKey) {
+        return jdbcTemplate.query(
+                "SELECT department_id, rows_updated, rows_skipped FROM salary_adjustment_results "
+                        + "WHERE idempotency_key = ? AND created_at >= ?",
+                (rs, rowNum) -> SalaryAdjustmentResponse.builder()
+                        .departmentId(rs.getLong("department_id"))
+                        .rowsUpdated(rs.getLong("rows_updated"))
+                        .rowsSkipped(rs.getLong("rows_skipped"))
+                        .build(),
+                idempotencyKey, utc(clock.instant().minus(window))).stream().findFirst();
+    }
+
+    // Joins the adjustment transaction so the result is stored atomically with the salary changes
+    @Override
+    @Transactional
+    public void saveResult(String idempotencyKey, SalaryAdjustmentResponse result) {
+        jdbcTemplate.update(
+                "INSERT INTO salary_adjustment_results (idempotency_key, department_id, rows_updated, rows_skipped, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING",
+                idempotencyKey, result.getDepartmentId(), result.getRowsUpdated(), result.getRowsSkipped(),
+                utc(clock.instant()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:5m}")
+    @Transactional
+    public void purgeExpired() {
+        OffsetDateTime cutoff = utc(clock.instant().minus(window));
+        jdbcTemplate.update("DELETE FROM salary_adjustment_locks WHERE acquired_at < ?", cutoff);
+        jdbcTemplate.update("DELETE FROM salary_adjustment_results WHERE created_at < ?", cutoff);
+    }
+
+    // The columns are timestamp with time zone; binding UTC offsets keeps the window independent of each
+    // replica's default time zone
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
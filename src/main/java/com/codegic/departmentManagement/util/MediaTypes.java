@@ -0,0 +1,11 @@
+package com.codegic.departmentManagement.util;
+
+// Binary encodings the collection endpoints offer next to JSON, with the same field names; CBOR is
+// MediaType.APPLICATION_CBOR, Smile has no Spring constant
+public final class MediaTypes {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private MediaTypes() {
+    }
+}
@@ -0,0 +1,34 @@
+package com.codegic.departmentManagement.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.codegic.departmentManagement.config.ReadYourWritesFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponseWriter {
+
+    private final ObjectMapper objectMapper;
+
+    // Writes every item handed to the sink as one JSON line, straight to the response stream. Call it on the
+    // request thread, which decides whether the producer reads from the primary
+    public <T> StreamingResponseBody write(Consumer<Consumer<T>> producer) {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return ReadYourWritesFilter.propagate(out -> producer.accept(item -> {
+            try {
+                writer.writeValue(out, item);
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }));
+    }
+}
@@ -0,0 +1,8 @@
+-- One change counter per collection endpoint, bumped by every commit that changes what it lists.
+-- GET /employees and GET /departments take their ETag from here instead of scanning the tables.
+CREATE TABLE collection_versions (
+                                     name VARCHAR(20) PRIMARY KEY,
+                                     version BIGINT NOT NULL
+);
+
+INSERT INTO collection_versions (name, version) VALUES ('employees', 0), ('departments', 0);
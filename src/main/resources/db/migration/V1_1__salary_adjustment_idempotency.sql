@@ -0,0 +1,15 @@
+-- Claims and stored results of app.idempotency.store=jdbc. Runs on databases baselined at V1 too; IF NOT EXISTS
+-- keeps it safe where the tables were already created from Scripts/TableCreation.sql (V9 converts their
+-- timestamps). Timestamps carry the zone, so every replica measures the claim window on the same clock.
+CREATE TABLE IF NOT EXISTS salary_adjustment_locks (
+                                                       department_id BIGINT PRIMARY KEY,
+                                                       acquired_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS salary_adjustment_results (
+                                                         idempotency_key VARCHAR(255) PRIMARY KEY,
+                                                         department_id BIGINT NOT NULL,
+                                                         rows_updated BIGINT NOT NULL,
+                                                         rows_skipped BIGINT NOT NULL,
+                                                         created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,50 @@
+-- Tables and sequences the entities gained before Flyway took over the schema. Databases baselined at V1 may
+-- already have some of them from ddl-auto=update, so every object is created only if missing.
+
+-- Pooled sequences (allocationSize = 50 on the entities) so Hibernate can batch inserts. Ids stop being
+-- IDENTITY-generated, and the sequences start past the existing rows so the two never hand out the same id.
+CREATE SEQUENCE IF NOT EXISTS departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('departments_seq', GREATEST((SELECT last_value FROM departments_seq),
+                                          (SELECT COALESCE(MAX(id), 0) + 50 FROM departments)));
+SELECT setval('employees_seq', GREATEST((SELECT last_value FROM employees_seq),
+                                        (SELECT COALESCE(MAX(id), 0) + 50 FROM employees)));
+ALTER TABLE departments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE departments ALTER COLUMN id SET DEFAULT nextval('departments_seq');
+ALTER TABLE employees ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE employees ALTER COLUMN id SET DEFAULT nextval('employees_seq');
+
+-- Serves the min/max/sum lookups behind the department stats
+CREATE INDEX IF NOT EXISTS idx_employees_department_salary ON employees(department_id, salary);
+
+CREATE TABLE IF NOT EXISTS department_stats (
+                                                department_id BIGINT PRIMARY KEY,
+                                                headcount BIGINT NOT NULL,
+                                                total_salary NUMERIC(19,2) NOT NULL,
+                                                min_salary NUMERIC(15,2),
+                                                max_salary NUMERIC(15,2)
+);
+
+CREATE TABLE IF NOT EXISTS department_tenure_counts (
+                                                        department_id BIGINT NOT NULL,
+                                                        joining_year INT NOT NULL,
+                                                        headcount BIGINT NOT NULL,
+                                                        PRIMARY KEY (department_id, joining_year)
+);
+
+CREATE TABLE IF NOT EXISTS salary_adjustment_jobs (
+                                                      id UUID PRIMARY KEY,
+                                                      department_id BIGINT NOT NULL,
+                                                      performance_score INT NOT NULL,
+                                                      as_of_date DATE NOT NULL,
+                                                      status VARCHAR(20) NOT NULL,
+                                                      total_employees BIGINT NOT NULL,
+                                                      processed_employees BIGINT NOT NULL,
+                                                      updated_employees BIGINT NOT NULL,
+                                                      last_employee_id BIGINT NOT NULL,
+                                                      error VARCHAR(2000),
+                                                      created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                                                      updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_salary_adjustment_jobs_status ON salary_adjustment_jobs(status);
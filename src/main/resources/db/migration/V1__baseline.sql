@@ -0,0 +1,17 @@
+-- Schema as of the introduction of Flyway: the departments and employees tables as Scripts/TableCreation.sql
+-- and ddl-auto=update created them. Databases created before that are baselined at this version, so anything
+-- added later, even if ddl-auto already created it on some databases, lives in V1_1 and up.
+CREATE TABLE departments (
+                             id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                             name VARCHAR(255) NOT NULL,
+                             code VARCHAR(10) NOT NULL UNIQUE
+);
+
+CREATE TABLE employees (
+                           id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                           name VARCHAR(255) NOT NULL,
+                           email VARCHAR(255) NOT NULL UNIQUE,
+                           salary NUMERIC(15,2) NOT NULL,
+                           joining_date DATE NOT NULL,
+                           department_id INTEGER NOT NULL REFERENCES departments(id)
+);
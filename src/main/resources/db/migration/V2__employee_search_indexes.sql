@@ -0,0 +1,9 @@
+-- Backs GET /employees/search. Department filters use idx_employees_department_salary (department_id first).
+-- Runs without a transaction (.conf), as CONCURRENTLY requires, so employees stays writable during the builds.
+-- An interrupted build leaves its index INVALID; drop that index before running the migration again.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_department_joining_date ON employees (department_id, joining_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_joining_date ON employees (joining_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_salary ON employees (salary);
+
+-- Case-insensitive name prefix: lower(name) LIKE 'abc%' regardless of the database collation
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_name_prefix ON employees (lower(name) text_pattern_ops);
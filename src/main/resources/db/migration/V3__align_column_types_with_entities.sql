@@ -0,0 +1,15 @@
+-- Employee.department is a Long FK to departments.id (BIGINT); the column was created as INTEGER.
+-- Rewrites employees and its indexes under an ACCESS EXCLUSIVE lock: run in a maintenance window on large tables.
+ALTER TABLE employees ALTER COLUMN department_id TYPE BIGINT;
+
+-- SalaryAdjustmentJob timestamps are Instants, which Hibernate maps to timestamp with time zone, and V1_2 creates
+-- them that way. Only a table that ddl-auto made before Flyway can still have timestamp without time zone.
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'salary_adjustment_jobs' AND column_name = 'created_at') = 'timestamp without time zone' THEN
+        ALTER TABLE salary_adjustment_jobs
+            ALTER COLUMN created_at TYPE TIMESTAMP WITH TIME ZONE USING created_at AT TIME ZONE 'UTC',
+            ALTER COLUMN updated_at TYPE TIMESTAMP WITH TIME ZONE USING updated_at AT TIME ZONE 'UTC';
+    END IF;
+END $$;
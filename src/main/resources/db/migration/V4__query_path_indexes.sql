@@ -0,0 +1,9 @@
+-- Built CONCURRENTLY so writes continue while large tables are indexed; this migration runs outside a
+-- transaction (see the .conf file). A failed build leaves an INVALID index: drop it before re-running.
+
+-- Keyset chunks of the salary adjustment jobs: department_id = ? AND id > ? ORDER BY id LIMIT ?
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_department_id_id ON employees (department_id, id);
+
+-- Periodic purge of expired idempotency results and department locks
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_salary_adjustment_results_created_at ON salary_adjustment_results (created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_salary_adjustment_locks_acquired_at ON salary_adjustment_locks (acquired_at);
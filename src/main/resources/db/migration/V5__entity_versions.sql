@@ -0,0 +1,4 @@
+-- Optimistic-lock versions for Department and Employee, also used for ETags.
+-- A constant default is stored in the catalog on Postgres 11+, so neither table is rewritten.
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Append-only salary history and deletion audit, written behind the transactions that cause it
+CREATE TABLE salary_history (
+                                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                employee_id BIGINT NOT NULL,
+                                department_id BIGINT NOT NULL,
+                                event_type VARCHAR(20) NOT NULL,
+                                old_salary NUMERIC(15,2),
+                                new_salary NUMERIC(15,2),
+                                reason VARCHAR(255) NOT NULL,
+                                run_id UUID,
+                                recorded_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Keyset pages of one employee's history, newest first
+CREATE INDEX idx_salary_history_employee_id ON salary_history (employee_id, id);
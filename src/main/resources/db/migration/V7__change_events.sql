@@ -0,0 +1,24 @@
+-- Transactional outbox behind GET /changes: rows are inserted by the mutating transaction and given a
+-- feed offset by ChangeFeedRelay once committed
+CREATE TABLE change_events (
+                               id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                               entity_type VARCHAR(20) NOT NULL,
+                               entity_id BIGINT NOT NULL,
+                               operation VARCHAR(20) NOT NULL,
+                               department_id BIGINT,
+                               occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                               change_offset BIGINT,
+                               CONSTRAINT uk_change_events_offset UNIQUE (change_offset)
+);
+
+-- The relay's queue: only rows still waiting for an offset
+CREATE INDEX idx_change_events_unpublished ON change_events (id) WHERE change_offset IS NULL;
+
+-- One row: the last offset handed out, and the highest one removed by the retention purge
+CREATE TABLE change_feed_state (
+                                   id INTEGER PRIMARY KEY,
+                                   last_offset BIGINT NOT NULL,
+                                   purged_offset BIGINT NOT NULL
+);
+
+INSERT INTO change_feed_state (id, last_offset, purged_offset) VALUES (1, 0, 0);
@@ -0,0 +1,4 @@
+-- Which instance runs an active salary adjustment job, and until when. Another instance only resumes a job
+-- whose lease has run out; jobs from before this migration have none and are free to claim.
+ALTER TABLE salary_adjustment_jobs ADD COLUMN IF NOT EXISTS owner VARCHAR(100);
+ALTER TABLE salary_adjustment_jobs ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP WITH TIME ZONE;
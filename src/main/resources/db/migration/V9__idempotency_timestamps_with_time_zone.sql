@@ -0,0 +1,14 @@
+-- Idempotency tables created from Scripts/TableCreation.sql before V1_1 have timestamp without time zone, which
+-- each replica wrote in its own default zone. The old values are read in the session zone; claims and results
+-- only live for one window (app.idempotency.window), so at most the claims in flight are shifted.
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'salary_adjustment_locks' AND column_name = 'acquired_at') = 'timestamp without time zone' THEN
+        ALTER TABLE salary_adjustment_locks ALTER COLUMN acquired_at TYPE TIMESTAMP WITH TIME ZONE;
+    END IF;
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'salary_adjustment_results' AND column_name = 'created_at') = 'timestamp without time zone' THEN
+        ALTER TABLE salary_adjustment_results ALTER COLUMN created_at TYPE TIMESTAMP WITH TIME ZONE;
+    END IF;
+END $$;
@@ -0,0 +1,98 @@
+package com.codegic.departmentManagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionBulkheadFilterTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void rejectsRequestsBeyondThePermitCountWith503() throws Exception {
+        ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(1, Duration.ofMillis(50), objectMapper);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch leave = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = pool.submit(() -> {
+                filter.doFilter(request("/employees"), new MockHttpServletResponse(), (req, res) -> {
+                    inside.countDown();
+                    try {
+                        leave.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return null;
+            });
+            inside.await();
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            filter.doFilter(request("/employees"), rejected, (req, res) -> { });
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+            leave.countDown();
+            first.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void permitsDefaultToThePoolLessTheReservedConnections() {
+        assertThat(new ConnectionBulkheadFilter(0, 10, 3, Duration.ZERO, objectMapper).availablePermits())
+                .isEqualTo(7);
+        assertThat(new ConnectionBulkheadFilter(0, 2, 3, Duration.ZERO, objectMapper).availablePermits())
+                .isEqualTo(1);
+        assertThat(new ConnectionBulkheadFilter(5, 10, 3, Duration.ZERO, objectMapper).availablePermits())
+                .isEqualTo(5);
+    }
+
+    @Test
+    void ignoresPathsOutsideTheApi() throws Exception {
+        ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(0, Duration.ZERO, objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/actuator/health"), response, (req, res) -> { });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncRequestsHoldTheirPermitUntilComplete() throws Exception {
+        ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(1, Duration.ZERO, objectMapper);
+        MockHttpServletRequest request = request("/employees/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(filter.availablePermits()).isZero();
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
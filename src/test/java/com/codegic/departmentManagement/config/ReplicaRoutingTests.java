@@ -0,0 +1,208 @@
+package com.codegic.departmentManagement.config;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.service.DepartmentService;
+import com.codegic.departmentManagement.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two in-memory H2 databases stand in for the primary and its replica; replicate() plays the part of
+// streaming replication, so anything written after it is "not replicated yet"
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTests.PRIMARY_URL,
+        "app.datasource.replica.url=" + ReplicaRoutingTests.REPLICA_URL,
+        "app.datasource.replica.read-your-writes=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingTests {
+
+    static final String PRIMARY_URL =
+            "jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaAndWritesThePrimary() throws SQLException {
+        Long department = createDepartment("RR-SVC");
+        Long employee = createEmployee(department, "rr-svc");
+        replicate();
+        double replicaConnections = connections("replica");
+
+        employeeService.updateEmployee(employee, request(department, "rr-svc", new BigDecimal("70000.00")));
+
+        assertThat(primarySalary(employee)).isEqualByComparingTo("70000.00");
+        assertThat(employeeService.getEmployee(employee).getSalary()).isEqualByComparingTo("50000.00");
+        assertThat(connections("replica")).isGreaterThan(replicaConnections);
+    }
+
+    @Test
+    void aClientReadsItsOwnWritesFromThePrimary() throws Exception {
+        Long department = createDepartment("RR-WEB");
+        Long employee = createEmployee(department, "rr-web");
+        replicate();
+
+        MvcResult write = mockMvc.perform(put("/employees/{id}", employee)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "rr-web", "email": "rr-web@example.com", "salary": 65000.00,
+                                 "joiningDate": "2020-01-01", "departmentId": %d}
+                                """.formatted(department)))
+                .andExpect(status().isOk())
+                .andReturn();
+        Cookie sticky = write.getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+        assertThat(sticky).isNotNull();
+
+        mockMvc.perform(get("/employees/{id}", employee).cookie(sticky))
+                .andExpect(jsonPath("$.salary").value(65000.00));
+        mockMvc.perform(get("/employees/{id}", employee))
+                .andExpect(jsonPath("$.salary").value(50000.00));
+    }
+
+    // The export is written on an async thread after the filter has returned; the client's window must follow it
+    @Test
+    void anExportFollowsTheClientsReadYourWritesWindow() throws Exception {
+        Long department = createDepartment("RR-EXP");
+        Long employee = createEmployee(department, "rr-exp");
+        replicate();
+
+        MvcResult write = mockMvc.perform(put("/employees/{id}", employee)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "rr-exp", "email": "rr-exp@example.com", "salary": 65000.00,
+                                 "joiningDate": "2020-01-01", "departmentId": %d}
+                                """.formatted(department)))
+                .andExpect(status().isOk())
+                .andReturn();
+        Cookie sticky = write.getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        assertThat(export(department, sticky)).contains("65000.00");
+        assertThat(export(department, null)).contains("50000.00");
+    }
+
+    @Test
+    void aLaggingReplicaIsTakenOutOfRotation() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, routing, Duration.ofSeconds(10),
+                "SELECT 30", new SimpleMeterRegistry());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+            monitor.check();
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private String export(Long departmentId, Cookie cookie) throws Exception {
+        MockHttpServletRequestBuilder exportRequest = get("/employees/export")
+                .param("format", "csv")
+                .param("departmentId", departmentId.toString());
+        if (cookie != null) {
+            exportRequest.cookie(cookie);
+        }
+        MvcResult result = mockMvc.perform(exportRequest)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        return result.getResponse().getContentAsString();
+    }
+
+    // Copies the primary's schema and rows into the replica database
+    private void replicate() throws SQLException {
+        List<String> script = new JdbcTemplate(primary).queryForList("SCRIPT NOSETTINGS", String.class);
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private BigDecimal primarySalary(Long employeeId) {
+        return new JdbcTemplate(primary).queryForObject(
+                "SELECT salary FROM employees WHERE id = ?", BigDecimal.class, employeeId);
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("datasource.routing.connections").tag("target", target).counter().count();
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private Long createEmployee(Long departmentId, String name) {
+        return employeeService.createEmployee(request(departmentId, name, new BigDecimal("50000.00"))).getId();
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name, BigDecimal salary) {
+        return EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(salary)
+                .joiningDate(LocalDate.of(2020, 1, 1))
+                .departmentId(departmentId)
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.codegic.departmentManagement.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Guards the employee read endpoints against N+1 department loads, and checks that
+// conditional requests stop at the version queries
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EmployeeControllerStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long employeeId;
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        List<Employee> employees = new ArrayList<>();
+        for (int d = 0; d < 3; d++) {
+            Department department = departmentRepository.save(
+                    Department.builder().name("Department " + d).code("SC0" + d).build());
+            for (int e = 0; e < 4; e++) {
+                employees.add(Employee.builder()
+                        .name("Employee " + d + "-" + e)
+                        .email("employee" + d + "-" + e + "@example.com")
+                        .salary(new BigDecimal("50000.00"))
+                        .joiningDate(LocalDate.of(2020, 1, 1))
+                        .department(department)
+                        .build());
+            }
+        }
+        employeeId = employeeRepository.saveAll(employees).get(0).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // Version lookup plus the response projection
+    @Test
+    void getEmployeeExecutesTwoStatements() throws Exception {
+        mockMvc.perform(get("/employees/{id}", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.departmentName").value("Department 0"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void unchangedEmployeeIsNotModifiedAfterOneStatement() throws Exception {
+        String eTag = mockMvc.perform(get("/employees/{id}", employeeId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        mockMvc.perform(get("/employees/{id}", employeeId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void renamingTheDepartmentChangesTheEmployeeETag() throws Exception {
+        String eTag = mockMvc.perform(get("/employees/{id}", employeeId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Department department = employeeRepository.findById(employeeId).orElseThrow().getDepartment();
+        department = departmentRepository.findById(department.getId()).orElseThrow();
+        department.setName("Renamed");
+        departmentRepository.save(department);
+
+        mockMvc.perform(get("/employees/{id}", employeeId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departmentName").value("Renamed"));
+    }
+
+    // Collection version plus the listing
+    @Test
+    void getAllEmployeesExecutesTwoStatements() throws Exception {
+        mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(12));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void unchangedEmployeeListIsNotModifiedUntilAnEmployeeChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/employees"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        mockMvc.perform(get("/employees").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        Employee employee = employeeRepository.findById(employeeId).orElseThrow();
+        employeeService.updateEmployee(employeeId, EmployeeRequest.builder()
+                .name(employee.getName())
+                .email(employee.getEmail())
+                .salary(new BigDecimal("60000.00"))
+                .joiningDate(employee.getJoiningDate())
+                .departmentId(employee.getDepartment().getId())
+                .build());
+
+        mockMvc.perform(get("/employees").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(12));
+    }
+
+    // Same number of rows afterwards, which a fingerprint of the table could miss
+    @Test
+    void replacingAnEmployeeChangesTheListETag() throws Exception {
+        Employee employee = employeeRepository.findById(employeeId).orElseThrow();
+        String eTag = mockMvc.perform(get("/employees"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        employeeService.deleteEmployee(employeeId);
+        employeeService.createEmployee(EmployeeRequest.builder()
+                .name("Replacement")
+                .email("replacement@example.com")
+                .salary(employee.getSalary())
+                .joiningDate(employee.getJoiningDate())
+                .departmentId(employee.getDepartment().getId())
+                .build());
+
+        mockMvc.perform(get("/employees").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(12));
+    }
+
+    @Test
+    void getEmployeesPageExecutesOneStatement() throws Exception {
+        mockMvc.perform(get("/employees/page").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void streamAllEmployeesExecutesOneStatement() throws Exception {
+        MvcResult result = mockMvc.perform(get("/employees/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        assertThat(result.getResponse().getContentAsString().lines()).hasSize(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,178 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.codegic.departmentManagement.service.DepartmentService;
+import com.codegic.departmentManagement.service.EmployeeService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /employees/page and /departments/page walked cursor by cursor; other test classes share the database,
+// so every walk is compared with the whole table rather than with what this class created
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class KeysetPaginationTests {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void employeePagesCoverEveryEmployeeOnceInIdOrder() throws Exception {
+        Long department = createDepartment("KP-EMP");
+        for (int i = 0; i < 2 * PAGE_SIZE + 1; i++) {
+            createEmployee(department, "kp-emp-" + i);
+        }
+
+        List<Long> walked = walk("/employees/page", new TypeReference<PageResponse<EmployeeResponse>>() { },
+                EmployeeResponse::getId);
+
+        assertThat(walked).isSorted().doesNotHaveDuplicates()
+                .containsExactlyElementsOf(employeeRepository.findAll().stream().map(Employee::getId).sorted().toList());
+    }
+
+    @Test
+    void departmentPagesCoverEveryDepartmentOnceInIdOrder() throws Exception {
+        for (int i = 0; i < 2 * PAGE_SIZE + 1; i++) {
+            createDepartment("KP-DEP-" + i);
+        }
+
+        List<Long> walked = walk("/departments/page", new TypeReference<PageResponse<DepartmentResponse>>() { },
+                DepartmentResponse::getId);
+
+        assertThat(walked).isSorted().doesNotHaveDuplicates()
+                .containsExactlyElementsOf(departmentRepository.findAll().stream().map(Department::getId).sorted().toList());
+    }
+
+    // Not Base64, and Base64 of something that is not an id
+    @Test
+    void malformedCursorsAreRejected() throws Exception {
+        for (String path : List.of("/employees/page", "/departments/page")) {
+            for (String cursor : List.of("not a cursor!", "bm90LWFuLWlk")) {
+                mockMvc.perform(get(path).param("cursor", cursor))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message").value("Invalid cursor"));
+            }
+        }
+    }
+
+    @Test
+    void departmentStreamWritesOneJsonLinePerDepartmentInIdOrder() throws Exception {
+        DepartmentResponse created = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Streamed department").code("KP-STREAM").build());
+
+        MvcResult result = mockMvc.perform(get("/departments/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        List<DepartmentResponse> streamed = result.getResponse().getContentAsString().lines()
+                .map(line -> read(line, DepartmentResponse.class))
+                .toList();
+        assertThat(streamed).extracting(DepartmentResponse::getId).isSorted()
+                .containsExactlyElementsOf(departmentRepository.findAll().stream().map(Department::getId).sorted().toList());
+        assertThat(streamed).filteredOn(department -> department.getId().equals(created.getId()))
+                .singleElement()
+                .usingRecursiveComparison()
+                .ignoringFields("version")
+                .isEqualTo(created);
+    }
+
+    // Follows nextCursor until it is null; every page but the last is full
+    private <T> List<Long> walk(String path, TypeReference<PageResponse<T>> type, Function<T, Long> id)
+            throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path).param("limit", String.valueOf(PAGE_SIZE));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            PageResponse<T> page = objectMapper.readValue(body, type);
+            if (page.getNextCursor() != null) {
+                assertThat(page.getItems()).hasSize(PAGE_SIZE);
+            } else {
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            }
+            page.getItems().forEach(item -> ids.add(id.apply(item)));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private void createEmployee(Long departmentId, String name) {
+        employeeService.createEmployee(EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(new BigDecimal("50000.00"))
+                .joiningDate(LocalDate.of(2020, 1, 1))
+                .departmentId(departmentId)
+                .build());
+    }
+}
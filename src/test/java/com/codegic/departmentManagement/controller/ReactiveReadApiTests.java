@@ -0,0 +1,125 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.service.DepartmentService;
+import com.codegic.departmentManagement.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JPA and R2DBC share one named in-memory database: rows written through the services are read back reactively
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+class ReactiveReadApiTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private static DepartmentResponse department;
+    private static EmployeeResponse employee;
+
+    @BeforeEach
+    void seed() {
+        if (department != null) {
+            return;
+        }
+        department = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Reactive").code("RX").build());
+        for (int i = 0; i < 5; i++) {
+            EmployeeResponse created = employeeService.createEmployee(EmployeeRequest.builder()
+                    .name("Reactive " + i)
+                    .email("reactive" + i + "@example.com")
+                    .salary(new BigDecimal("51000.50"))
+                    .joiningDate(LocalDate.of(2021, 3, 1))
+                    .departmentId(department.getId())
+                    .build());
+            employee = employee == null ? created : employee;
+        }
+    }
+
+    @Test
+    void employeeByIdMatchesTheBlockingResponse() {
+        EmployeeResponse body = webTestClient.get().uri("/employees/{id}", employee.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeeResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(body).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(employeeService.getEmployee(employee.getId()));
+    }
+
+    @Test
+    void missingRowsAreNotFound() {
+        webTestClient.get().uri("/employees/{id}", Long.MAX_VALUE).exchange().expectStatus().isNotFound();
+        webTestClient.get().uri("/departments/code/{code}", "NONE").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void listsReturnEveryRow() {
+        List<EmployeeResponse> employees = webTestClient.get().uri("/employees")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EmployeeResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(employees).extracting(EmployeeResponse::getDepartmentName).containsOnly("Reactive");
+        assertThat(employees).hasSize(employeeService.getAllEmployees().size());
+
+        webTestClient.get().uri("/departments/{id}", department.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("RX")
+                .jsonPath("$.version").doesNotExist();
+    }
+
+    // The NDJSON stream is consumed element by element and can be cancelled part way
+    @Test
+    void streamHonoursSubscriberDemand() {
+        Flux<EmployeeResponse> stream = webTestClient.get().uri("/employees/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EmployeeResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(stream, 1)
+                .expectNextCount(1)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+}
@@ -0,0 +1,135 @@
+package com.codegic.departmentManagement.controller;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.service.DepartmentService;
+import com.codegic.departmentManagement.service.EmployeeService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Real server, so Tomcat's compression is part of what is tested
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class ResponseFormatTests {
+
+    private static final TypeReference<List<EmployeeResponse>> EMPLOYEES = new TypeReference<>() {
+    };
+
+    private static final AtomicInteger RUNS = new AtomicInteger();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long departmentId;
+
+    @BeforeEach
+    void seed() {
+        String code = "RF-" + RUNS.incrementAndGet();
+        departmentId = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+        for (int i = 0; i < 50; i++) {
+            employeeService.createEmployee(EmployeeRequest.builder()
+                    .name(code + "-" + i)
+                    .email(code.toLowerCase() + "-" + i + "@example.com")
+                    .salary(new BigDecimal("50000.25"))
+                    .joiningDate(LocalDate.of(2020, 1, 1).plusDays(i))
+                    .departmentId(departmentId)
+                    .build());
+        }
+    }
+
+    @Test
+    void collectionsAreNegotiatedAsCborAndSmile() throws Exception {
+        HttpResponse<byte[]> json = get("/employees", "*/*", null);
+        HttpResponse<byte[]> cbor = get("/employees", "application/cbor", null);
+        HttpResponse<byte[]> smile = get("/employees", "application/x-jackson-smile", null);
+
+        assertThat(json.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/json"));
+        assertThat(cbor.headers().firstValue("Content-Type")).hasValue("application/cbor");
+        assertThat(smile.headers().firstValue("Content-Type")).hasValue("application/x-jackson-smile");
+        assertThat(cbor.headers().allValues("Vary"))
+                .flatMap(vary -> List.of(vary.split("\\s*,\\s*")))
+                .anySatisfy(header -> assertThat(header).isEqualToIgnoringCase("Accept"));
+        assertThat(cbor.headers().firstValue("ETag")).isEqualTo(json.headers().firstValue("ETag"));
+
+        List<EmployeeResponse> expected = objectMapper.readValue(json.body(), EMPLOYEES);
+        for (List<EmployeeResponse> decoded : List.of(
+                new CBORMapper().findAndRegisterModules().readValue(cbor.body(), EMPLOYEES),
+                new SmileMapper().findAndRegisterModules().readValue(smile.body(), EMPLOYEES))) {
+            assertThat(decoded)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(expected);
+        }
+        assertThat(cbor.body().length).isLessThan(json.body().length);
+        assertThat(smile.body().length).isLessThan(json.body().length);
+    }
+
+    @Test
+    void responsesAreGzippedOnlyForClientsThatAcceptIt() throws Exception {
+        HttpResponse<byte[]> plain = get("/employees", "application/json", null);
+        HttpResponse<byte[]> gzipped = get("/employees", "application/json", "gzip");
+        HttpResponse<byte[]> cbor = get("/employees", "application/cbor", "gzip");
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.body().length).isLessThan(plain.body().length);
+        assertThat(gunzip(gzipped.body())).isEqualTo(plain.body());
+        assertThat(cbor.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
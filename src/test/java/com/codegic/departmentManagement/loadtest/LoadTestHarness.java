@@ -0,0 +1,166 @@
+package com.codegic.departmentManagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/*
+ * Closed-loop load generator for comparing the two request execution modes on the same workload.
+ * Start the app once per mode against the same database, then run this against it:
+ *
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=false
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=true
+ *
+ *   ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.codegic.departmentManagement.loadtest.LoadTestHarness \
+ *       -Dexec.args="http://localhost:8080 400 60 10"
+ *
+ * Arguments: base url, concurrent clients, measured seconds, warm-up seconds, read mix.
+ * Each client loops over a read mix with no think time, so the printed throughput and p99 latency reflect
+ * how each mode behaves once the database is the bottleneck. Mix "page" (default) is employee by id,
+ * department by id and a keyset page; "by-id" drops the page, which the reactive profile does not serve,
+ * so the blocking endpoints can be compared with the WebFlux/R2DBC ones on the same database:
+ *
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments="--spring.profiles.active=reactive --server.port=8081"
+ *   ... -Dexec.args="http://localhost:8080 2000 60 10 by-id"
+ *   ... -Dexec.args="http://localhost:8081 2000 60 10 by-id"
+ *
+ * 503s are the virtual-thread bulkhead shedding load and are reported separately from errors.
+ */
+public final class LoadTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration measured = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+        Duration warmUp = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 10);
+        boolean pages = args.length <= 4 || !"by-id".equals(args[4]);
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<String> paths = workload(http, baseUrl, pages);
+
+        System.out.printf("Warming up %d clients for %ds...%n", clients, warmUp.toSeconds());
+        run(http, baseUrl, paths, clients, warmUp);
+        System.out.printf("Measuring for %ds...%n", measured.toSeconds());
+        Result result = run(http, baseUrl, paths, clients, measured);
+        result.print(measured);
+    }
+
+    // Resolves real ids once so every run hits the same rows; /employees/stream is served by both stacks
+    private static List<String> workload(HttpClient http, String baseUrl, boolean pages) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/employees/stream"))
+                .timeout(Duration.ofSeconds(30)).GET().build();
+        List<String> paths = new ArrayList<>();
+        try (Stream<String> lines = http.send(request, HttpResponse.BodyHandlers.ofLines()).body()) {
+            for (String line : lines.limit(200).toList()) {
+                JsonNode employee = MAPPER.readTree(line);
+                paths.add("/employees/" + employee.path("id").asLong());
+                paths.add("/departments/" + employee.path("departmentId").asLong());
+            }
+        }
+        if (paths.isEmpty()) {
+            throw new IllegalStateException("No employees found at " + baseUrl + "; load some data first");
+        }
+        if (pages) {
+            paths.add("/employees/page?limit=50");
+        }
+        return paths;
+    }
+
+    private static Result run(HttpClient http, String baseUrl, List<String> paths, int clients, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Result> perClient = new ArrayList<>();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Result result = new Result();
+                perClient.add(result);
+                pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        String path = paths.get(random.nextInt(paths.size()));
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = get(http, baseUrl + path).statusCode();
+                        } catch (Exception ex) {
+                            status = -1;
+                        }
+                        result.record(status, System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+        }
+        Result total = new Result();
+        perClient.forEach(total::merge);
+        return total;
+    }
+
+    private static HttpResponse<String> get(HttpClient http, String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static final class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void record(int status, long nanos) {
+            statuses.merge(status, 1L, Long::sum);
+            if (status == 200) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = nanos;
+            }
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = other.latencies[i];
+            }
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+        }
+
+        void print(Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("throughput: %.1f req/s (200 OK only)%n", count / (double) duration.toSeconds());
+            System.out.printf("latency ms: p50=%.1f p99=%.1f max=%.1f%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+            System.out.println("responses by status (-1 = client error/timeout): " + statuses);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codegic.departmentManagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Applies the Flyway migrations to a real Postgres and checks that each search filter is answered from an index
+@Testcontainers(disabledWithoutDocker = true)
+class EmployeeSearchIndexTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO departments (name, code)
+                    SELECT 'Department ' || i, 'D' || i FROM generate_series(1, 50) i
+                    """);
+            statement.execute("""
+                    INSERT INTO employees (name, email, salary, joining_date, department_id)
+                    SELECT 'Employee ' || i, 'employee' || i || '@example.com',
+                           30000 + (i * 7919) % 150000, DATE '2010-01-01' + (i * 31) % 5000,
+                           (SELECT MIN(id) FROM departments) + (i % 50) * 50
+                    FROM generate_series(1, 50000) i
+                    """);
+            statement.execute("ANALYZE employees");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "e.department_id = (SELECT MIN(id) FROM departments)",
+            "lower(e.name) LIKE 'employee 1234%'",
+            "e.email = 'employee777@example.com'",
+            "e.salary BETWEEN 100000 AND 100500",
+            "e.joining_date BETWEEN DATE '2015-03-01' AND DATE '2015-03-20'",
+            "e.department_id = (SELECT MIN(id) FROM departments) AND e.joining_date >= DATE '2020-01-01'"
+    })
+    void searchFiltersUseAnIndex(String filter) throws SQLException {
+        String plan = explain("SELECT e.id, e.name, e.email, e.salary, e.joining_date, d.id, d.name "
+                + "FROM employees e JOIN departments d ON d.id = e.department_id WHERE " + filter);
+
+        assertThat(plan).as(plan).containsPattern("(Index Scan|Index Only Scan|Bitmap Index Scan) (using|on) idx_employees_|employees_email_key");
+        assertThat(plan).as(plan).doesNotContain("Seq Scan on employees");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,59 @@
+package com.codegic.departmentManagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Migrates a real Postgres with Flyway and lets Hibernate validate every entity against the result,
+// the same way the application starts in production
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsProduceTheSchemaTheEntitiesExpect() {
+        // Reaching this point means ddl-auto=validate accepted the migrated schema
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    // Not entities, so validate does not see them; the claim window must not depend on a replica's time zone
+    @Test
+    void idempotencyTimestampsCarryTheirZone() {
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT data_type FROM information_schema.columns
+                WHERE (table_name, column_name) IN (('salary_adjustment_locks', 'acquired_at'),
+                                                    ('salary_adjustment_results', 'created_at'))
+                """, String.class))
+                .containsExactly("timestamp with time zone", "timestamp with time zone");
+    }
+}
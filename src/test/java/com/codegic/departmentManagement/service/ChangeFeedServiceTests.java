@@ -0,0 +1,186 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.ChangeEventResponse;
+import com.codegic.departmentManagement.dto.ChangeFeedResponse;
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.changes.relay-interval=20ms",
+        "app.changes.batch-size=3"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class ChangeFeedServiceTests {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    // Batches of three make the relay publish this run in several transactions
+    @Test
+    void everyMutationIsPublishedOnceInCommitOrder() {
+        long since = changeFeedService.latestOffset();
+        Long department = createDepartment("CF-ALL");
+        EmployeeResponse first = createEmployee(department, "cf-all-1");
+        EmployeeResponse second = createEmployee(department, "cf-all-2");
+        employeeService.updateEmployee(first.getId(), request(department, "cf-all-1", new BigDecimal("51000.00")));
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(department).performanceScore(95).bulk(true).build());
+        employeeService.deleteEmployee(second.getId());
+        departmentService.deleteDepartment(department, true);
+
+        List<ChangeEventResponse> events = awaitChanges(since, items -> items.stream()
+                .anyMatch(event -> event.getEntityType().equals("DEPARTMENT") && event.getOperation().equals("DELETED")
+                        && event.getEntityId().equals(department)));
+        List<String> ours = events.stream()
+                .filter(event -> event.getEntityId().equals(department) && event.getEntityType().equals("DEPARTMENT")
+                        || department.equals(event.getDepartmentId()))
+                .map(event -> event.getEntityType() + ":" + event.getOperation() + ":" + event.getEntityId())
+                .toList();
+
+        assertThat(ours).containsExactly(
+                "DEPARTMENT:CREATED:" + department,
+                "EMPLOYEE:CREATED:" + first.getId(),
+                "EMPLOYEE:CREATED:" + second.getId(),
+                "EMPLOYEE:UPDATED:" + first.getId(),
+                "EMPLOYEE:UPDATED:" + first.getId(),
+                "EMPLOYEE:UPDATED:" + second.getId(),
+                "EMPLOYEE:DELETED:" + second.getId(),
+                "EMPLOYEE:DELETED:" + first.getId(),
+                "DEPARTMENT:DELETED:" + department);
+        assertThat(events).extracting(ChangeEventResponse::getOffset).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void readersResumeFromTheirLastOffset() {
+        long since = changeFeedService.latestOffset();
+        Long department = createDepartment("CF-RES");
+        for (int i = 0; i < 4; i++) {
+            createEmployee(department, "cf-res-" + i);
+        }
+        List<ChangeEventResponse> all = awaitChanges(since, items -> items.stream()
+                .filter(event -> department.equals(event.getDepartmentId())).count() == 4);
+
+        ChangeFeedResponse page = changeFeedService.getChanges(since, 2);
+        ChangeFeedResponse rest = changeFeedService.getChanges(page.getNextOffset(), 100);
+
+        assertThat(page.getEvents()).hasSize(2);
+        List<ChangeEventResponse> resumed = new ArrayList<>(page.getEvents());
+        resumed.addAll(rest.getEvents());
+        assertThat(resumed).extracting(ChangeEventResponse::getOffset)
+                .startsWith(all.stream().map(ChangeEventResponse::getOffset).toArray(Long[]::new));
+    }
+
+    @Test
+    void rolledBackMutationsPublishNothing() {
+        Long department = createDepartment("CF-RB");
+        createEmployee(department, "cf-rb");
+        awaitChanges(0, items -> items.stream().anyMatch(event -> department.equals(event.getDepartmentId())));
+        long since = changeFeedService.latestOffset();
+
+        assertThatThrownBy(() -> departmentService.deleteDepartment(department, false))
+                .isInstanceOf(IllegalStateException.class);
+        Long marker = createDepartment("CF-RB-M");
+
+        List<ChangeEventResponse> events = awaitChanges(since, items -> items.stream()
+                .anyMatch(event -> event.getEntityId().equals(marker)));
+        assertThat(events).noneMatch(event -> event.getEntityId().equals(department));
+    }
+
+    @Test
+    void waitingReadersAndSubscribersAreWokenByTheRelay() throws Exception {
+        long since = changeFeedService.latestOffset();
+        CountDownLatch woken = new CountDownLatch(1);
+        changeFeedService.onChangesAfter(since, woken::countDown);
+        List<ChangeEventResponse> streamed = new CopyOnWriteArrayList<>();
+        Runnable close = changeFeedService.subscribe(since, 100, streamed::addAll, ex -> { });
+
+        Long department = createDepartment("CF-WAKE");
+
+        assertThat(woken.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (streamed.stream().noneMatch(event -> event.getEntityId().equals(department))
+                && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(20_000_000L);
+        }
+        close.run();
+        assertThat(streamed).anyMatch(event -> event.getEntityId().equals(department));
+    }
+
+    @Test
+    void negativeOffsetsAreRejected() {
+        assertThatThrownBy(() -> changeFeedService.getChanges(-1, 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> changeFeedService.subscribe(-1, 10, events -> { throw new IOException(); }, ex -> { }))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // Reads the whole feed after the offset, polling until the relay has published what the test expects
+    private List<ChangeEventResponse> awaitChanges(long since, Predicate<List<ChangeEventResponse>> done) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        List<ChangeEventResponse> items = readAll(since);
+        while (!done.test(items) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(20_000_000L);
+            items = readAll(since);
+        }
+        assertThat(done).accepts(items);
+        return items;
+    }
+
+    private List<ChangeEventResponse> readAll(long since) {
+        List<ChangeEventResponse> items = new ArrayList<>();
+        ChangeFeedResponse page = changeFeedService.getChanges(Math.max(since, 0), 1000);
+        while (!page.getEvents().isEmpty()) {
+            items.addAll(page.getEvents());
+            page = changeFeedService.getChanges(page.getNextOffset(), 1000);
+        }
+        return items;
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private EmployeeResponse createEmployee(Long departmentId, String name) {
+        return employeeService.createEmployee(request(departmentId, name, new BigDecimal("50000.00")));
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name, BigDecimal salary) {
+        return EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(salary)
+                .joiningDate(LocalDate.now().minusYears(1))
+                .departmentId(departmentId)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.DepartmentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class DepartmentCacheTests {
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // A change made behind the cache's back stays invisible until the department is evicted
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        Long id = createDepartment("DC-HIT");
+        assertThat(departmentCache.findById(id)).map(DepartmentResponse::getName).hasValue("Department DC-HIT");
+        assertThat(departmentCache.findByCode("DC-HIT")).map(DepartmentResponse::getId).hasValue(id);
+
+        jdbcTemplate.update("UPDATE departments SET name = 'Changed directly' WHERE id = ?", id);
+
+        assertThat(departmentCache.findById(id)).map(DepartmentResponse::getName).hasValue("Department DC-HIT");
+        assertThat(departmentCache.findByCode("DC-HIT")).map(DepartmentResponse::getName)
+                .hasValue("Department DC-HIT");
+    }
+
+    @Test
+    void missesAreNotCached() {
+        assertThat(departmentCache.findByCode("DC-LATER")).isEmpty();
+
+        Long id = createDepartment("DC-LATER");
+
+        assertThat(departmentCache.findByCode("DC-LATER")).map(DepartmentResponse::getId).hasValue(id);
+    }
+
+    // Renaming one department evicts its id and its old code, and leaves every other department cached
+    @Test
+    void updateEvictsOnlyTheChangedDepartment() {
+        Long renamed = createDepartment("DC-OLD");
+        Long untouched = createDepartment("DC-KEEP");
+        departmentCache.findById(renamed);
+        departmentCache.findByCode("DC-OLD");
+        departmentCache.findById(untouched);
+        departmentCache.findByCode("DC-KEEP");
+
+        departmentService.updateDepartment(renamed,
+                DepartmentRequest.builder().name("Renamed").code("DC-NEW").build());
+
+        assertThat(cache(DepartmentCache.BY_ID).get(renamed)).isNull();
+        assertThat(cache(DepartmentCache.BY_CODE).get("DC-OLD")).isNull();
+        assertThat(cache(DepartmentCache.BY_ID).get(untouched)).isNotNull();
+        assertThat(cache(DepartmentCache.BY_CODE).get("DC-KEEP")).isNotNull();
+
+        assertThat(departmentCache.findById(renamed)).map(DepartmentResponse::getName).hasValue("Renamed");
+        assertThat(departmentCache.findByCode("DC-OLD")).isEmpty();
+        assertThat(departmentCache.findByCode("DC-NEW")).map(DepartmentResponse::getId).hasValue(renamed);
+    }
+
+    @Test
+    void deleteEvictsTheDepartment() {
+        Long id = createDepartment("DC-DEL");
+        departmentCache.findById(id);
+        departmentCache.findByCode("DC-DEL");
+
+        departmentService.deleteDepartment(id, false);
+
+        assertThat(departmentCache.findById(id)).isEmpty();
+        assertThat(departmentCache.findByCode("DC-DEL")).isEmpty();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+}
@@ -0,0 +1,110 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.BatchResponse;
+import com.codegic.departmentManagement.dto.DepartmentDeleteResponse;
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.DepartmentStatsRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class DepartmentServiceDeleteTests {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentStatsRepository departmentStatsRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void forceDeleteRemovesEveryEmployeeWithAConstantNumberOfStatements() {
+        Long small = createDepartment("DEL-S", 3);
+        Long large = createDepartment("DEL-L", 300);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        DepartmentDeleteResponse smallResult = departmentService.deleteDepartment(small, true);
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        DepartmentDeleteResponse largeResult = departmentService.deleteDepartment(large, true);
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        assertThat(smallResult.getEmployeesDeleted()).isEqualTo(3);
+        assertThat(largeResult.getEmployeesDeleted()).isEqualTo(300);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(employeeRepository.countByDepartmentId(large)).isZero();
+        assertThat(departmentRepository.existsById(large)).isFalse();
+        assertThat(departmentStatsRepository.existsById(large)).isFalse();
+    }
+
+    @Test
+    void deleteWithoutForceKeepsADepartmentWithEmployees() {
+        Long department = createDepartment("DEL-K", 2);
+
+        assertThatThrownBy(() -> departmentService.deleteDepartment(department, false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(employeeRepository.countByDepartmentId(department)).isEqualTo(2);
+    }
+
+    @Test
+    void deleteOfAnEmptyDepartmentReportsNoEmployees() {
+        Long department = createDepartment("DEL-E", 0);
+
+        assertThat(departmentService.deleteDepartment(department, false).getEmployeesDeleted()).isZero();
+        assertThatThrownBy(() -> departmentService.deleteDepartment(department, true))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private Long createDepartment(String code, int employees) {
+        Long id = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+        List<EmployeeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            requests.add(EmployeeRequest.builder()
+                    .name("Employee " + i)
+                    .email(code.toLowerCase() + "-" + i + "@example.com")
+                    .salary(new BigDecimal("50000.00"))
+                    .joiningDate(LocalDate.of(2020, 1, 1))
+                    .departmentId(id)
+                    .build());
+        }
+        if (!requests.isEmpty()) {
+            BatchResponse batch = employeeService.createEmployees(requests, false);
+            assertThat(batch.getCreated()).isEqualTo(employees);
+        }
+        return id;
+    }
+}
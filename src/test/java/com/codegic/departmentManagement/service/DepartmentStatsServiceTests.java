@@ -0,0 +1,167 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.DepartmentStatsResponse;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.StatsReconcileResponse;
+import com.codegic.departmentManagement.entity.DepartmentStats;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.repository.DepartmentStatsRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class DepartmentStatsServiceTests {
+
+    @Autowired
+    private DepartmentStatsService departmentStatsService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentStatsRepository departmentStatsRepository;
+
+    @Test
+    void statsFollowEveryEmployeeWriteWithoutDrift() {
+        Long sales = createDepartment("ST-SALES");
+        Long support = createDepartment("ST-SUP");
+        assertMatchesEmployees(sales);
+
+        EmployeeResponse lowest = createEmployee(sales, "st-low", "41000.00", LocalDate.now().minusYears(1));
+        createEmployee(sales, "st-mid", "58000.50", LocalDate.now().minusYears(3));
+        EmployeeResponse highest = createEmployee(sales, "st-high", "99000.00", LocalDate.now().minusYears(8));
+        createEmployee(support, "st-sup", "52000.00", LocalDate.now().minusYears(2));
+        assertMatchesEmployees(sales);
+        assertMatchesEmployees(support);
+
+        // Removing the current minimum forces a min/max recompute
+        employeeService.deleteEmployee(lowest.getId());
+        assertMatchesEmployees(sales);
+
+        // Moving the maximum to another department changes both
+        employeeService.updateEmployee(highest.getId(), EmployeeRequest.builder()
+                .name("st-high")
+                .email(highest.getEmail())
+                .salary(new BigDecimal("101000.00"))
+                .joiningDate(highest.getJoiningDate())
+                .departmentId(support)
+                .build());
+        assertMatchesEmployees(sales);
+        assertMatchesEmployees(support);
+
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(sales).performanceScore(95).build());
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(support).performanceScore(95).bulk(true).build());
+        assertMatchesEmployees(sales);
+        assertMatchesEmployees(support);
+
+        StatsReconcileResponse reconcile = departmentStatsService.reconcile();
+        assertThat(reconcile.getDriftedDepartmentIds()).doesNotContain(sales, support);
+    }
+
+    // NUMERIC(15,2) rounds a third decimal away when the row is stored; the stats must count the stored value.
+    // A batch sums its deltas before applying them, so unrounded salaries would add up to a different total
+    @Test
+    void salariesBeyondTwoDecimalsAreCountedAsStored() {
+        Long department = createDepartment("ST-SCALE");
+        EmployeeResponse single = createEmployee(department, "st-scale-0", "1000.005", LocalDate.now().minusYears(1));
+        employeeService.createEmployees(List.of(
+                request(department, "st-scale-1", "1000.005"),
+                request(department, "st-scale-2", "1000.005")), false);
+        employeeService.updateEmployee(single.getId(), request(department, "st-scale-0", "2000.125"));
+
+        assertThat(single.getSalary()).isEqualByComparingTo("1000.01");
+        assertMatchesEmployees(department);
+        assertThat(departmentStatsService.reconcile().getDriftedDepartmentIds()).doesNotContain(department);
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        Long department = createDepartment("ST-DRIFT");
+        createEmployee(department, "st-drift", "60000.00", LocalDate.now().minusYears(4));
+
+        DepartmentStats stats = departmentStatsRepository.findById(department).orElseThrow();
+        stats.setHeadcount(7);
+        stats.setTotalSalary(new BigDecimal("1.00"));
+        departmentStatsRepository.save(stats);
+
+        assertThat(departmentStatsService.reconcile().getDriftedDepartmentIds()).contains(department);
+        assertMatchesEmployees(department);
+        assertThat(departmentStatsService.reconcile().getDriftedDepartmentIds()).doesNotContain(department);
+    }
+
+    private void assertMatchesEmployees(Long departmentId) {
+        List<Employee> employees = employeeRepository.findByDepartmentId(departmentId);
+        DepartmentStatsResponse stats = departmentStatsService.getStats(departmentId);
+
+        BigDecimal total = employees.stream().map(Employee::getSalary).reduce(BigDecimal.ZERO, BigDecimal::add);
+        Map<Integer, Long> histogram = new TreeMap<>();
+        employees.forEach(emp -> histogram.merge(Year.now().getValue() - emp.getJoiningDate().getYear(), 1L, Long::sum));
+
+        assertThat(stats.getHeadcount()).isEqualTo(employees.size());
+        assertThat(stats.getTotalSalary()).isEqualByComparingTo(total);
+        assertThat(stats.getTenureHistogram()).isEqualTo(histogram);
+        if (employees.isEmpty()) {
+            assertThat(stats.getMinSalary()).isNull();
+            assertThat(stats.getAverageSalary()).isNull();
+            return;
+        }
+        assertThat(stats.getMinSalary()).isEqualByComparingTo(
+                employees.stream().map(Employee::getSalary).min(BigDecimal::compareTo).orElseThrow());
+        assertThat(stats.getMaxSalary()).isEqualByComparingTo(
+                employees.stream().map(Employee::getSalary).max(BigDecimal::compareTo).orElseThrow());
+        assertThat(stats.getAverageSalary()).isEqualByComparingTo(
+                total.divide(BigDecimal.valueOf(employees.size()), 2, RoundingMode.HALF_UP));
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private EmployeeResponse createEmployee(Long departmentId, String name, String salary, LocalDate joiningDate) {
+        return employeeService.createEmployee(EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(new BigDecimal(salary))
+                .joiningDate(joiningDate)
+                .departmentId(departmentId)
+                .build());
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name, String salary) {
+        return EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(new BigDecimal(salary))
+                .joiningDate(LocalDate.now().minusYears(2))
+                .departmentId(departmentId)
+                .build();
+    }
+}
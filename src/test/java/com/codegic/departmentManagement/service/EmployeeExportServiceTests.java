@@ -0,0 +1,139 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EmployeeExportServiceTests {
+
+    private static final AtomicInteger RUNS = new AtomicInteger();
+
+    @Autowired
+    private EmployeeExportService exportService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long department;
+    private Long other;
+    private String prefix;
+
+    @BeforeEach
+    void seed() {
+        prefix = "exp-" + RUNS.incrementAndGet();
+        department = createDepartment(prefix.toUpperCase());
+        other = createDepartment(prefix.toUpperCase() + "-B");
+        createEmployee(department, prefix + "-2019", LocalDate.of(2019, 6, 1));
+        createEmployee(department, prefix + "-2020", LocalDate.of(2020, 6, 1));
+        createEmployee(department, prefix + "-2021", LocalDate.of(2021, 6, 1));
+        createEmployee(other, prefix + "-other", LocalDate.of(2020, 6, 1));
+    }
+
+    @Test
+    void ndjsonEndsEveryRecordWithANewline() throws IOException {
+        String body = export(EmployeeExportService.Format.NDJSON, department, null, null);
+
+        assertThat(body).endsWith("}\n").doesNotContain("\n\n");
+        List<EmployeeResponse> rows = body.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, EmployeeResponse.class);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .toList();
+        assertThat(rows).extracting(EmployeeResponse::getName)
+                .containsExactly(prefix + "-2019", prefix + "-2020", prefix + "-2021");
+        assertThat(rows.get(0))
+                .usingRecursiveComparison()
+                .isEqualTo(employeeService.getEmployee(rows.get(0).getId()));
+    }
+
+    @Test
+    void csvHasAHeaderAndOneLinePerEmployee() throws IOException {
+        String body = export(EmployeeExportService.Format.CSV, department, null, null);
+
+        List<String> lines = body.lines().toList();
+        assertThat(body).endsWith("\n");
+        assertThat(lines.get(0).split(",")).containsExactlyInAnyOrder(
+                "id", "name", "email", "salary", "joiningDate", "departmentId", "departmentName");
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(1)).contains(prefix + "-2019", prefix + "-2019@example.com", "2019-06-01");
+    }
+
+    @Test
+    void filtersByDepartmentAndJoiningDate() throws IOException {
+        assertThat(names(export(EmployeeExportService.Format.NDJSON, other, null, null)))
+                .containsExactly(prefix + "-other");
+        assertThat(names(export(EmployeeExportService.Format.NDJSON, department, LocalDate.of(2020, 6, 1), null)))
+                .containsExactly(prefix + "-2020", prefix + "-2021");
+        assertThat(names(export(EmployeeExportService.Format.NDJSON, department, null, LocalDate.of(2020, 6, 1))))
+                .containsExactly(prefix + "-2019", prefix + "-2020");
+        assertThat(names(export(EmployeeExportService.Format.NDJSON, department,
+                LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31))))
+                .containsExactly(prefix + "-2020");
+        assertThat(export(EmployeeExportService.Format.NDJSON, department, LocalDate.of(2022, 1, 1), null)).isEmpty();
+    }
+
+    private List<String> names(String ndjson) {
+        return ndjson.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line).get("name").asText();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .toList();
+    }
+
+    private String export(EmployeeExportService.Format format, Long departmentId, LocalDate joinedFrom,
+                          LocalDate joinedTo) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(format, departmentId, joinedFrom, joinedTo, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private void createEmployee(Long departmentId, String name, LocalDate joiningDate) {
+        employeeService.createEmployee(EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(new BigDecimal("50000.00"))
+                .joiningDate(joiningDate)
+                .departmentId(departmentId)
+                .build());
+    }
+}
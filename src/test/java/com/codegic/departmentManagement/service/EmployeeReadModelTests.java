@@ -0,0 +1,215 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.EmployeeSearchCriteria;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.read-model.enabled=true",
+        "app.changes.relay-interval=20ms"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EmployeeReadModelTests {
+
+    @Autowired
+    private EmployeeReadModel readModel;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void warmUp() {
+        readModel.warmUp();
+    }
+
+    @Test
+    void servesTheSameResponsesAndVersionsAsTheDatabase() {
+        Long department = createDepartment("RM-SAME");
+        EmployeeResponse first = createEmployee(department, "rm-same-1");
+        createEmployee(department, "rm-same-2");
+
+        assertThat(readModel.isServing()).isTrue();
+        assertThat(readModel.getEmployee(first.getId()))
+                .usingRecursiveComparison()
+                .isEqualTo(employeeService.getEmployee(first.getId()));
+        assertThat(readModel.getEmployeeVersion(first.getId()))
+                .isEqualTo(employeeService.getEmployeeVersion(first.getId()));
+        assertThat(readModel.getAllEmployees())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(employeeService.getAllEmployees());
+        assertThat(readModel.getEmployeesVersion()).isEqualTo(versionAfterReload());
+    }
+
+    @Test
+    void writesOnThisNodeAreVisibleAsSoonAsTheyCommit() {
+        Long department = createDepartment("RM-WRITE");
+        Long other = createDepartment("RM-WRITE-2");
+        Long id = createEmployee(department, "rm-write").getId();
+
+        employeeService.updateEmployee(id, request(other, "rm-write-moved", new BigDecimal("61000.00")));
+        departmentService.updateDepartment(other, DepartmentRequest.builder().name("Renamed").code("RM-WRITE-2").build());
+
+        EmployeeResponse moved = readModel.getEmployee(id);
+        assertThat(moved.getSalary()).isEqualByComparingTo("61000.00");
+        assertThat(moved.getDepartmentName()).isEqualTo("Renamed");
+        assertThat(search(EmployeeSearchCriteria.builder().departmentId(department).build())).isEmpty();
+        assertThat(search(EmployeeSearchCriteria.builder().departmentId(other).build())).containsExactly(id);
+        assertThat(search(EmployeeSearchCriteria.builder().email("rm-write@example.com").build())).isEmpty();
+        assertThat(search(EmployeeSearchCriteria.builder().email("rm-write-moved@example.com").build()))
+                .containsExactly(id);
+
+        employeeService.deleteEmployee(id);
+        assertThatThrownBy(() -> readModel.getEmployee(id)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void setBasedChangesRefreshTheirDepartment() {
+        Long department = createDepartment("RM-BULK");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(createEmployee(department, "rm-bulk-" + i).getId());
+        }
+
+        String before = readModel.getEmployeesVersion();
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(department).performanceScore(95).bulk(true).build());
+        assertThat(ids).allSatisfy(id -> assertThat(readModel.getEmployee(id).getSalary())
+                .isGreaterThan(new BigDecimal("50000.00"))
+                .isEqualByComparingTo(employeeService.getEmployee(id).getSalary()));
+        assertThat(readModel.getEmployeesVersion()).isNotEqualTo(before).isEqualTo(versionAfterReload());
+
+        departmentService.deleteDepartment(department, true);
+        assertThat(search(EmployeeSearchCriteria.builder().departmentId(department).build())).isEmpty();
+        assertThat(readModel.getEmployeesVersion()).isEqualTo(versionAfterReload());
+    }
+
+    // Rows 1 and 4 replaced by rows 2 and 3 keep the count and the id and version sums
+    @Test
+    void replacedRowsChangeTheVersion() {
+        Long department = createDepartment("RM-SWAP");
+        insertEmployee(9_000_001L, department);
+        insertEmployee(9_000_004L, department);
+        readModel.warmUp();
+        String before = readModel.getEmployeesVersion();
+
+        jdbcTemplate.update("DELETE FROM employees WHERE id IN (9000001, 9000004)");
+        insertEmployee(9_000_002L, department);
+        insertEmployee(9_000_003L, department);
+        readModel.warmUp();
+
+        assertThat(readModel.getEmployeesVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void searchPagesMatchTheDatabaseCursorForCursor() {
+        Long department = createDepartment("RM-PAGE");
+        for (int i = 0; i < 5; i++) {
+            createEmployee(department, "rm-page-" + i);
+        }
+
+        List<String> fromMemory = walk(readModel, department);
+
+        assertThat(fromMemory).hasSize(5 + 3).isEqualTo(walk(employeeService, department));
+    }
+
+    // Another node's write only reaches this one through the change feed
+    @Test
+    void writesOnOtherNodesArriveThroughTheChangeFeed() {
+        Long department = createDepartment("RM-FEED");
+        Long id = createEmployee(department, "rm-feed").getId();
+
+        jdbcTemplate.update("UPDATE employees SET name = 'changed elsewhere', version = version + 1 WHERE id = ?", id);
+        jdbcTemplate.update("""
+                INSERT INTO change_events (entity_type, entity_id, operation, department_id, occurred_at)
+                VALUES ('EMPLOYEE', ?, 'UPDATED', ?, CURRENT_TIMESTAMP)
+                """, id, department);
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!readModel.getEmployee(id).getName().equals("changed elsewhere") && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(20_000_000L);
+        }
+        assertThat(readModel.getEmployee(id).getName()).isEqualTo("changed elsewhere");
+        assertThat(readModel.getEmployeeVersion(id)).isEqualTo(employeeService.getEmployeeVersion(id));
+    }
+
+    // The version kept up by the writes must be the one a full load computes
+    private String versionAfterReload() {
+        String version = readModel.getEmployeesVersion();
+        readModel.warmUp();
+        assertThat(readModel.getEmployeesVersion()).isEqualTo(version);
+        return version;
+    }
+
+    private void insertEmployee(long id, Long departmentId) {
+        jdbcTemplate.update("""
+                INSERT INTO employees (id, name, email, salary, joining_date, department_id, version)
+                VALUES (?, ?, ?, 50000.00, DATE '2020-01-01', ?, 0)
+                """, id, "rm-swap-" + id, "rm-swap-" + id + "@example.com", departmentId);
+    }
+
+    // Ids and cursors of every page of the department, two at a time
+    private static List<String> walk(EmployeeReads reads, Long departmentId) {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            PageResponse<EmployeeResponse> page = reads.searchEmployees(EmployeeSearchCriteria.builder()
+                    .departmentId(departmentId).limit(2).cursor(cursor).build());
+            page.getItems().forEach(item -> seen.add(item.getId().toString()));
+            cursor = page.getNextCursor();
+            seen.add(String.valueOf(cursor));
+        } while (cursor != null);
+        return seen;
+    }
+
+    private List<Long> search(EmployeeSearchCriteria criteria) {
+        return readModel.searchEmployees(criteria).getItems().stream()
+                .map(EmployeeResponse::getId)
+                .toList();
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private EmployeeResponse createEmployee(Long departmentId, String name) {
+        return employeeService.createEmployee(request(departmentId, name, new BigDecimal("50000.00")));
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name, BigDecimal salary) {
+        return EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(salary)
+                .joiningDate(LocalDate.now().minusYears(1))
+                .departmentId(departmentId)
+                .build();
+    }
+}
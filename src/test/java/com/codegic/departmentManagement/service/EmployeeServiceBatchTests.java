@@ -0,0 +1,179 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.BatchItemResult;
+import com.codegic.departmentManagement.dto.BatchResponse;
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EmployeeServiceBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void eachItemIsCreatedOrRejectedOnItsOwn() {
+        Long department = createDepartment("BT-MIX");
+        EmployeeResponse existing = employeeService.createEmployee(request(department, "batch-mix-existing"));
+
+        BatchResponse response = employeeService.createEmployees(List.of(
+                request(department, "batch-mix-1"),
+                request(department, "batch-mix-existing"),
+                request(department, "batch-mix-1"),
+                request(Long.MAX_VALUE, "batch-mix-2"),
+                request(department, "batch-mix-3", null),
+                request(department, "batch-mix-4")), false);
+
+        List<BatchItemResult> results = response.getResults();
+        assertThat(results).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.CREATED,
+                BatchItemResult.Status.REJECTED,
+                BatchItemResult.Status.REJECTED,
+                BatchItemResult.Status.REJECTED,
+                BatchItemResult.Status.REJECTED,
+                BatchItemResult.Status.CREATED);
+        assertThat(results.get(1).getId()).isEqualTo(existing.getId());
+        assertThat(results.get(1).getErrors()).containsExactly("email: Employee with this email already exists");
+        assertThat(results.get(2).getErrors()).containsExactly("email: Duplicate email in batch");
+        assertThat(results.get(3).getErrors()).containsExactly("departmentId: Department not found");
+        assertThat(results.get(4).getErrors()).contains("salary: Salary is required");
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getUpdated()).isZero();
+        assertThat(response.getRejected()).isEqualTo(4);
+
+        assertThat(employeeService.getEmployee(results.get(0).getId()).getEmail()).isEqualTo("batch-mix-1@example.com");
+        assertThat(employeeService.getEmployee(results.get(5).getId()).getEmail()).isEqualTo("batch-mix-4@example.com");
+        assertThat(employeeRepository.findByDepartmentId(department)).hasSize(3);
+    }
+
+    // Longer than the column: rejected on its own instead of failing the JDBC batch for every item
+    @Test
+    void oversizedNamesAreRejectedPerItem() {
+        Long department = createDepartment("BT-SIZE");
+
+        BatchResponse response = employeeService.createEmployees(List.of(
+                request(department, "batch-size-1"),
+                EmployeeRequest.builder()
+                        .name("x".repeat(256))
+                        .email("batch-size-2@example.com")
+                        .salary(new BigDecimal("50000.00"))
+                        .joiningDate(LocalDate.of(2020, 1, 1))
+                        .departmentId(department)
+                        .build(),
+                request(department, "batch-size-3")), false);
+
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.CREATED, BatchItemResult.Status.REJECTED, BatchItemResult.Status.CREATED);
+        assertThat(response.getResults().get(1).getErrors())
+                .containsExactly("name: Employee name must be at most 255 characters");
+        assertThat(employeeRepository.findByDepartmentId(department)).hasSize(2);
+    }
+
+    @Test
+    void upsertUpdatesTheEmployeeWithTheSameEmail() {
+        Long department = createDepartment("BT-UPS");
+        Long other = createDepartment("BT-UPS-2");
+        EmployeeResponse existing = employeeService.createEmployee(request(department, "batch-upsert"));
+
+        BatchResponse response = employeeService.createEmployees(List.of(
+                EmployeeRequest.builder()
+                        .name("Moved")
+                        .email("batch-upsert@example.com")
+                        .salary(new BigDecimal("65000.00"))
+                        .joiningDate(LocalDate.of(2021, 1, 1))
+                        .departmentId(other)
+                        .build(),
+                request(other, "batch-upsert-new")), true);
+
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.UPDATED, BatchItemResult.Status.CREATED);
+        assertThat(response.getResults().get(0).getId()).isEqualTo(existing.getId());
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getCreated()).isEqualTo(1);
+
+        EmployeeResponse updated = employeeService.getEmployee(existing.getId());
+        assertThat(updated.getName()).isEqualTo("Moved");
+        assertThat(updated.getSalary()).isEqualByComparingTo("65000.00");
+        assertThat(updated.getDepartmentId()).isEqualTo(other);
+        assertThat(employeeRepository.findByDepartmentId(department)).isEmpty();
+    }
+
+    @Test
+    void batchesOverTheLimitAreRejectedWhole() throws Exception {
+        Long department = createDepartment("BT-LIMIT");
+        List<EmployeeRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            requests.add(request(department, "batch-limit-" + i));
+        }
+
+        mockMvc.perform(post("/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+        assertThat(employeeRepository.findByDepartmentId(department)).isEmpty();
+
+        mockMvc.perform(post("/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests.subList(0, 1000))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1000))
+                .andExpect(jsonPath("$.results[999].index").value(999))
+                .andExpect(jsonPath("$.results[999].status").value("CREATED"));
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name) {
+        return request(departmentId, name, new BigDecimal("50000.00"));
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name, BigDecimal salary) {
+        return EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(salary)
+                .joiningDate(LocalDate.of(2020, 1, 1))
+                .departmentId(departmentId)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EmployeeServiceSalaryAdjustmentTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @ParameterizedTest
+    @ValueSource(ints = {95, 75, 50})
+    void bulkAdjustmentMatchesPerEmployeeAdjustment(int performanceScore) {
+        Department perRow = seedDepartment("PR" + performanceScore);
+        Department bulk = seedDepartment("BK" + performanceScore);
+
+        SalaryAdjustmentResponse perRowResult = employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(perRow.getId())
+                .performanceScore(performanceScore)
+                .build());
+        SalaryAdjustmentResponse bulkResult = employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(bulk.getId())
+                .performanceScore(performanceScore)
+                .bulk(true)
+                .build());
+
+        assertThat(bulkResult.getRowsUpdated()).isEqualTo(perRowResult.getRowsUpdated());
+        assertThat(bulkResult.getRowsSkipped()).isEqualTo(perRowResult.getRowsSkipped());
+        assertThat(salaries(bulk)).isEqualTo(salaries(perRow));
+    }
+
+    private Department seedDepartment(String code) {
+        Department department = departmentRepository.save(
+                Department.builder().name("Department " + code).code(code).build());
+        LocalDate tenureCutoff = LocalDate.now().minusYears(6);
+
+        employeeRepository.saveAll(List.of(
+                employee(department, "junior", "45000.00", LocalDate.now().minusYears(1)),
+                employee(department, "odd-cents", "33333.33", tenureCutoff),
+                employee(department, "just-short", "80000.00", tenureCutoff.plusDays(1)),
+                employee(department, "near-cap", "180000.00", tenureCutoff.minusYears(3)),
+                employee(department, "at-cap", "200000.00", LocalDate.now().minusYears(2)),
+                employee(department, "above-cap", "250000.00", tenureCutoff.minusYears(10))
+        ));
+        return department;
+    }
+
+    private Employee employee(Department department, String name, String salary, LocalDate joiningDate) {
+        return Employee.builder()
+                .name(name)
+                .email(name + "@" + department.getCode().toLowerCase() + ".example.com")
+                .salary(new BigDecimal(salary))
+                .joiningDate(joiningDate)
+                .department(department)
+                .build();
+    }
+
+    private List<BigDecimal> salaries(Department department) {
+        return employeeRepository.findByDepartmentId(department.getId()).stream()
+                .sorted(Comparator.comparing(Employee::getName))
+                .map(emp -> emp.getSalary().setScale(2))
+                .toList();
+    }
+}
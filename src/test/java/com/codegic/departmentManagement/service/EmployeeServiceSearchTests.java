@@ -0,0 +1,127 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.EmployeeSearchCriteria;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class EmployeeServiceSearchTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Department department;
+
+    @BeforeEach
+    void seed() {
+        if (department != null) {
+            return;
+        }
+        department = departmentRepository.findByCode("SRCH").orElseGet(() -> {
+            Department created = departmentRepository.save(Department.builder().name("Search").code("SRCH").build());
+            List<Employee> rows = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                rows.add(Employee.builder()
+                        .name((i % 2 == 0 ? "Ann " : "Bob ") + i)
+                        .email("search" + i + "@example.com")
+                        // Repeated salaries so paging has to break ties on id
+                        .salary(BigDecimal.valueOf(40_000 + (i % 7) * 1_000))
+                        .joiningDate(LocalDate.of(2015, 1, 1).plusMonths(i))
+                        .department(created)
+                        .build());
+            }
+            employeeRepository.saveAll(rows);
+            return created;
+        });
+    }
+
+    @Test
+    void pagesThroughCombinedFiltersInSortOrder() {
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder()
+                .departmentId(department.getId())
+                .name("ann")
+                .salaryMin(new BigDecimal("41000"))
+                .joinedTo(LocalDate.of(2017, 12, 31))
+                .sort("salary")
+                .direction("desc")
+                .limit(4)
+                .build();
+
+        List<EmployeeResponse> expected = employeeRepository.findByDepartmentId(department.getId()).stream()
+                .filter(emp -> emp.getName().startsWith("Ann "))
+                .filter(emp -> emp.getSalary().compareTo(new BigDecimal("41000")) >= 0)
+                .filter(emp -> !emp.getJoiningDate().isAfter(LocalDate.of(2017, 12, 31)))
+                .sorted(Comparator.comparing(Employee::getSalary).reversed()
+                        .thenComparing(Employee::getId, Comparator.reverseOrder()))
+                .map(emp -> employeeService.mapToResponse(emp, DepartmentService.mapToResponse(department)))
+                .toList();
+
+        List<EmployeeResponse> found = new ArrayList<>();
+        String cursor = null;
+        do {
+            criteria.setCursor(cursor);
+            PageResponse<EmployeeResponse> page = employeeService.searchEmployees(criteria);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(4);
+            found.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(found).extracting(EmployeeResponse::getId)
+                .containsExactlyElementsOf(expected.stream().map(EmployeeResponse::getId).toList());
+    }
+
+    @Test
+    void nameWildcardsAreMatchedLiterally() {
+        PageResponse<EmployeeResponse> page = employeeService.searchEmployees(EmployeeSearchCriteria.builder()
+                .departmentId(department.getId())
+                .name("%")
+                .build());
+
+        assertThat(page.getItems()).isEmpty();
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSort() {
+        PageResponse<EmployeeResponse> page = employeeService.searchEmployees(EmployeeSearchCriteria.builder()
+                .departmentId(department.getId())
+                .sort("name")
+                .limit(5)
+                .build());
+
+        assertThatThrownBy(() -> employeeService.searchEmployees(EmployeeSearchCriteria.builder()
+                .departmentId(department.getId())
+                .sort("salary")
+                .cursor(page.getNextCursor())
+                .build()))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.ImportRejectedRow;
+import com.codegic.departmentManagement.dto.ImportResponse;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class ImportServiceTests {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    // Rejected rows are reported by their line in the file, the header being line 1
+    @Test
+    void csvRowsAreImportedAndRejectedRowsReportedByLine() throws IOException {
+        Long department = createDepartment("IMP-CSV");
+        String csv = """
+                name,email,salary,joiningDate,departmentId
+                Ada,imp-csv-1@example.com,50000.00,2020-01-01,%1$d
+                Grace,imp-csv-2@example.com,51000.00,2020-02-01,%1$d
+                Linus,imp-csv-3@example.com,52000.00,2020-03-01,999999
+                Ken,imp-csv-4@example.com,not-a-number,2020-04-01,%1$d
+                Barbara,imp-csv-5@example.com,53000.00,2020-05-01,%1$d
+                """.formatted(department);
+
+        ImportResponse report = importService.importEmployees(input(csv), TEXT_CSV, 2, false);
+
+        assertThat(report.getRowsRead()).isEqualTo(5);
+        assertThat(report.getRowsImported()).isEqualTo(3);
+        assertThat(report.getRowsRejected()).isEqualTo(2);
+        assertThat(report.getChunksCommitted()).isEqualTo(2);
+        assertThat(report.getRejectedRows()).extracting(ImportRejectedRow::getLine).containsExactly(5L, 4L);
+        assertThat(report.getRejectedRows().get(0).getErrors()).singleElement()
+                .asString().startsWith("Invalid value");
+        assertThat(report.getRejectedRows().get(1).getErrors()).containsExactly("departmentId: Department not found");
+        assertThat(employeeRepository.findByDepartmentId(department)).extracting(Employee::getName)
+                .containsExactlyInAnyOrder("Ada", "Grace", "Barbara");
+    }
+
+    @Test
+    void ndjsonRowsAreReportedByLine() throws IOException {
+        Long department = createDepartment("IMP-ND");
+        String ndjson = """
+                {"name":"Ada","email":"imp-nd-1@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"","email":"imp-nd-2@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Grace","email":"imp-nd-3@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                """.formatted(department);
+
+        ImportResponse report = importService.importEmployees(input(ndjson), MediaType.APPLICATION_NDJSON, null, false);
+
+        assertThat(report.getRowsRead()).isEqualTo(3);
+        assertThat(report.getRowsImported()).isEqualTo(2);
+        assertThat(report.getChunksCommitted()).isEqualTo(1);
+        assertThat(report.getRejectedRows()).singleElement().satisfies(row -> {
+            assertThat(row.getLine()).isEqualTo(2);
+            assertThat(row.getErrors()).containsExactly("name: Employee name is required");
+        });
+    }
+
+    // Each chunk is its own transaction: a chunk that fails in the database (a salary too large for NUMERIC(15,2))
+    // rolls back alone, and a row the parser cannot read stops the import without undoing what was committed
+    @Test
+    void chunksCommitIndependently() throws IOException {
+        Long department = createDepartment("IMP-CHUNK");
+        String ndjson = """
+                {"name":"Ada","email":"imp-chunk-1@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Grace","email":"imp-chunk-2@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Linus","email":"imp-chunk-3@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Overflow","email":"imp-chunk-4@example.com","salary":1E+20,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Ken","email":"imp-chunk-5@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Barbara","email":"imp-chunk-6@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                {"name":"Broken",
+                {"name":"Dennis","email":"imp-chunk-8@example.com","salary":50000.00,"joiningDate":"2020-01-01","departmentId":%1$d}
+                """.formatted(department);
+
+        ImportResponse report = importService.importEmployees(input(ndjson), MediaType.APPLICATION_NDJSON, 2, false);
+
+        assertThat(report.getRowsImported()).isEqualTo(4);
+        assertThat(report.getChunksCommitted()).isEqualTo(2);
+        assertThat(report.getRejectedRows()).extracting(ImportRejectedRow::getLine).containsExactly(3L, 4L, 7L);
+        assertThat(report.getRejectedRows().get(0).getErrors()).singleElement()
+                .asString().startsWith("Chunk rolled back");
+        assertThat(report.getRejectedRows().get(2).getErrors()).singleElement()
+                .asString().startsWith("Unreadable row, import stopped");
+        assertThat(employeeRepository.findByDepartmentId(department)).extracting(Employee::getName)
+                .containsExactlyInAnyOrder("Ada", "Grace", "Ken", "Barbara");
+    }
+
+    @Test
+    void departmentsAreImportedFromCsv() throws IOException {
+        String csv = """
+                name,code
+                Imported One,IMP-D1
+                Imported Two,IMP-D1
+                Imported Three,
+                """;
+
+        ImportResponse report = importService.importDepartments(input(csv), TEXT_CSV, null);
+
+        assertThat(report.getRowsImported()).isEqualTo(1);
+        assertThat(report.getRejectedRows()).extracting(ImportRejectedRow::getLine).containsExactly(3L, 4L);
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
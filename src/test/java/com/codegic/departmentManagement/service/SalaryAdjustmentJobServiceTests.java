@@ -0,0 +1,175 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentJobResponse;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.entity.SalaryAdjustmentJob;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import com.codegic.departmentManagement.repository.SalaryAdjustmentJobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Chunks of two employees, so every job below takes several committed chunks. The periodic resume check is
+// pushed out of the way; the tests call it themselves
+@SpringBootTest(properties = {
+        "app.salary-jobs.chunk-size=2",
+        "app.salary-jobs.instance-id=this-node",
+        "app.salary-jobs.resume-interval=1h"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class SalaryAdjustmentJobServiceTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SalaryAdjustmentJobService jobService;
+
+    @Autowired
+    private SalaryAdjustmentJobRepository jobRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void submittedJobIsAcceptedAndReportsItsProgressUntilDone() throws Exception {
+        Department department = seedDepartment("JOB-RUN", 5);
+
+        MvcResult submitted = mockMvc.perform(post("/employees/adjust-salary").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"departmentId": %d, "performanceScore": 95}
+                                """.formatted(department.getId())))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.totalEmployees").value(5))
+                .andReturn();
+        JsonNode body = objectMapper.readTree(submitted.getResponse().getContentAsString());
+        UUID id = UUID.fromString(body.get("id").asText());
+        assertThat(submitted.getResponse().getHeader(HttpHeaders.LOCATION))
+                .endsWith("/employees/adjust-salary/jobs/" + id);
+
+        SalaryAdjustmentJobResponse done = awaitStatus(id, "COMPLETED");
+
+        assertThat(done.getProcessedEmployees()).isEqualTo(5);
+        assertThat(done.getUpdatedEmployees()).isEqualTo(raisedEmployees(department)).isPositive();
+    }
+
+    @Test
+    void cancelStopsAnActiveJobOnlyOnce() throws Exception {
+        Department department = seedDepartment("JOB-CANCEL", 3);
+        UUID id = saveJob(department, SalaryAdjustmentJob.Status.PENDING, "other-node", Instant.now().plusSeconds(3600));
+
+        mockMvc.perform(post("/employees/adjust-salary/jobs/{id}/cancel", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+        mockMvc.perform(post("/employees/adjust-salary/jobs/{id}/cancel", id))
+                .andExpect(status().isConflict());
+
+        assertThat(raisedEmployees(department)).isZero();
+    }
+
+    // One job was left behind by an instance that crashed; the other still belongs to a live instance
+    @Test
+    void resumeTakesOverOnlyJobsWhoseLeaseHasExpired() {
+        Department orphaned = seedDepartment("JOB-ORPHAN", 5);
+        Department leased = seedDepartment("JOB-LEASED", 5);
+        UUID orphanedJob = saveJob(orphaned, SalaryAdjustmentJob.Status.RUNNING, "crashed-node",
+                Instant.now().minusSeconds(60));
+        UUID leasedJob = saveJob(leased, SalaryAdjustmentJob.Status.RUNNING, "other-node",
+                Instant.now().plusSeconds(3600));
+
+        jobService.resumeInterruptedJobs();
+
+        SalaryAdjustmentJobResponse resumed = awaitStatus(orphanedJob, "COMPLETED");
+        assertThat(resumed.getProcessedEmployees()).isEqualTo(5);
+        assertThat(jobRepository.findById(orphanedJob).orElseThrow().getOwner()).isEqualTo("this-node");
+
+        SalaryAdjustmentJob untouched = jobRepository.findById(leasedJob).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(SalaryAdjustmentJob.Status.RUNNING);
+        assertThat(untouched.getOwner()).isEqualTo("other-node");
+        assertThat(untouched.getProcessedEmployees()).isZero();
+    }
+
+    private SalaryAdjustmentJobResponse awaitStatus(UUID id, String status) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        SalaryAdjustmentJobResponse job = jobService.getJob(id);
+        while (!job.getStatus().equals(status) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+            job = jobService.getJob(id);
+        }
+        assertThat(job.getStatus()).isEqualTo(status);
+        return job;
+    }
+
+    private UUID saveJob(Department department, SalaryAdjustmentJob.Status status, String owner, Instant leaseExpiresAt) {
+        Instant createdAt = Instant.now().minusSeconds(600);
+        return jobRepository.save(SalaryAdjustmentJob.builder()
+                .departmentId(department.getId())
+                .performanceScore(95)
+                .asOfDate(LocalDate.now())
+                .status(status)
+                .totalEmployees(employeeRepository.countByDepartmentId(department.getId()))
+                .lastEmployeeId(0L)
+                .owner(owner)
+                .leaseExpiresAt(leaseExpiresAt)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build()).getId();
+    }
+
+    private long raisedEmployees(Department department) {
+        return employeeRepository.findByDepartmentId(department.getId()).stream()
+                .filter(employee -> employee.getSalary().compareTo(new BigDecimal("50000.00")) > 0)
+                .count();
+    }
+
+    private Department seedDepartment(String code, int employees) {
+        Department department = departmentRepository.save(
+                Department.builder().name("Department " + code).code(code).build());
+        List<Employee> seeded = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            seeded.add(Employee.builder()
+                    .name(code + " " + i)
+                    .email(code.toLowerCase() + "-" + i + "@example.com")
+                    .salary(new BigDecimal("50000.00"))
+                    .joiningDate(LocalDate.of(2015, 1, 1).plusMonths(i))
+                    .department(department)
+                    .build());
+        }
+        employeeRepository.saveAll(seeded);
+        return department;
+    }
+}
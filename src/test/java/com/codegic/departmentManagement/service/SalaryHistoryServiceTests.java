@@ -0,0 +1,131 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.EmployeeResponse;
+import com.codegic.departmentManagement.dto.PageResponse;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.SalaryHistoryResponse;
+import com.codegic.departmentManagement.entity.SalaryHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.salary-history.queue-capacity=4",
+        "app.salary-history.batch-size=3",
+        "app.salary-history.offer-timeout=10ms"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class SalaryHistoryServiceTests {
+
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    // Ten raises overflow the four-slot queue, so part of the run is written by the caller instead
+    @Test
+    void everyRaiseIsRecordedWithBeforeAndAfterValues() {
+        Long department = createDepartment("SH-PER");
+        List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            employees.add(createEmployee(department, "sh-per-" + i));
+        }
+
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(department).performanceScore(95).build());
+
+        for (EmployeeResponse employee : employees) {
+            List<SalaryHistoryResponse> history = awaitHistory(employee.getId(), items -> items.size() == 1);
+            assertThat(history.get(0).getEventType()).isEqualTo(SalaryHistory.EventType.SALARY_CHANGED.name());
+            assertThat(history.get(0).getOldSalary()).isEqualByComparingTo("50000.00");
+            assertThat(history.get(0).getNewSalary()).isEqualByComparingTo(
+                    employeeService.getEmployee(employee.getId()).getSalary());
+            assertThat(history.get(0).getRunId()).isNotNull();
+        }
+    }
+
+    @Test
+    void bulkRunsAndForceDeletesAreRecordedInTheSameTransaction() {
+        Long department = createDepartment("SH-BLK");
+        EmployeeResponse employee = createEmployee(department, "sh-blk");
+
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(department).performanceScore(95).bulk(true).build());
+        departmentService.deleteDepartment(department, true);
+
+        List<SalaryHistoryResponse> history = salaryHistoryService.getHistory(employee.getId(), null, 10).getItems();
+        assertThat(history).extracting(SalaryHistoryResponse::getEventType)
+                .containsExactly("EMPLOYEE_DELETED", "SALARY_CHANGED");
+        assertThat(history.get(0).getOldSalary()).isEqualByComparingTo(history.get(1).getNewSalary());
+        assertThat(history.get(0).getNewSalary()).isNull();
+    }
+
+    @Test
+    void historyPagesNewestFirst() {
+        Long department = createDepartment("SH-PAGE");
+        EmployeeResponse employee = createEmployee(department, "sh-page");
+        for (int i = 1; i <= 5; i++) {
+            employeeService.updateEmployee(employee.getId(), request(department, "sh-page", new BigDecimal(50000 + i)));
+        }
+        awaitHistory(employee.getId(), items -> items.size() == 5);
+
+        PageResponse<SalaryHistoryResponse> first = salaryHistoryService.getHistory(employee.getId(), null, 3);
+        PageResponse<SalaryHistoryResponse> second = salaryHistoryService.getHistory(employee.getId(), first.getNextCursor(), 3);
+
+        assertThat(first.getItems()).extracting(SalaryHistoryResponse::getNewSalary)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal(50005), new BigDecimal(50004), new BigDecimal(50003));
+        assertThat(second.getItems()).extracting(SalaryHistoryResponse::getNewSalary)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal(50002), new BigDecimal(50001));
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private List<SalaryHistoryResponse> awaitHistory(Long employeeId, Predicate<List<SalaryHistoryResponse>> done) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        List<SalaryHistoryResponse> items = salaryHistoryService.getHistory(employeeId, null, 50).getItems();
+        while (!done.test(items) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(20_000_000L);
+            items = salaryHistoryService.getHistory(employeeId, null, 50).getItems();
+        }
+        assertThat(done).accepts(items);
+        return items;
+    }
+
+    private Long createDepartment(String code) {
+        return departmentService.createDepartment(
+                DepartmentRequest.builder().name("Department " + code).code(code).build()).getId();
+    }
+
+    private EmployeeResponse createEmployee(Long departmentId, String name) {
+        return employeeService.createEmployee(request(departmentId, name, new BigDecimal("50000.00")));
+    }
+
+    private static EmployeeRequest request(Long departmentId, String name, BigDecimal salary) {
+        return EmployeeRequest.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .salary(salary)
+                .joiningDate(LocalDate.now().minusYears(1))
+                .departmentId(departmentId)
+                .build();
+    }
+}
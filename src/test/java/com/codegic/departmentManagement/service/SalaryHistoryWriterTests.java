@@ -0,0 +1,55 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.entity.SalaryHistory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SalaryHistoryWriterTests {
+
+    // Before start() events are written on the caller thread, which keeps the failure path synchronous here
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchesThatKeepFailingAreCountedAsDropped() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SalaryHistoryWriter writer = new SalaryHistoryWriter(jdbcTemplate, meterRegistry, 10, 10,
+                Duration.ZERO, Duration.ZERO);
+
+        writer.submit(List.of(event(1L), event(2L)));
+
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), any(List.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(meterRegistry.get("salary.history.dropped").counter().count()).isEqualTo(2);
+    }
+
+    private static SalaryHistory event(Long employeeId) {
+        return SalaryHistory.builder()
+                .employeeId(employeeId)
+                .departmentId(1L)
+                .eventType(SalaryHistory.EventType.SALARY_CHANGED)
+                .oldSalary(new BigDecimal("50000.00"))
+                .newSalary(new BigDecimal("52500.00"))
+                .recordedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import com.codegic.departmentManagement.dto.SalaryReviewRequest;
+import com.codegic.departmentManagement.dto.SalaryReviewResponse;
+import com.codegic.departmentManagement.dto.SalaryReviewResult;
+import com.codegic.departmentManagement.entity.Department;
+import com.codegic.departmentManagement.entity.Employee;
+import com.codegic.departmentManagement.exception.BadRequestException;
+import com.codegic.departmentManagement.repository.DepartmentRepository;
+import com.codegic.departmentManagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class SalaryReviewServiceTests {
+
+    @Autowired
+    private SalaryReviewService salaryReviewService;
+
+    @MockitoSpyBean
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void adjustsEachDepartmentOnceAndReportsTheAggregate() {
+        List<SalaryAdjustmentRequest> adjustments = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Department department = seedDepartment("RV" + i, 20);
+            adjustments.add(SalaryAdjustmentRequest.builder()
+                    .departmentId(department.getId())
+                    .performanceScore(i % 2 == 0 ? 95 : 50)
+                    .bulk(i % 3 == 0)
+                    .build());
+        }
+        adjustments.add(SalaryAdjustmentRequest.builder().departmentId(-1L).performanceScore(95).build());
+        SalaryReviewRequest request = SalaryReviewRequest.builder().departments(adjustments).build();
+
+        SalaryReviewResponse first = salaryReviewService.review(request);
+
+        assertThat(first.getDepartmentsAdjusted()).isEqualTo(6);
+        assertThat(first.getDepartmentsRejected()).isEqualTo(1);
+        assertThat(first.getRowsUpdated()).isEqualTo(3 * 20);
+        assertThat(first.getRowsSkipped()).isEqualTo(3 * 20);
+        assertThat(first.getResults()).extracting(SalaryReviewResult::getDepartmentId)
+                .containsExactlyElementsOf(adjustments.stream().map(SalaryAdjustmentRequest::getDepartmentId).toList());
+        assertThat(first.getResults().get(6).getStatus()).isEqualTo(SalaryReviewResult.Status.NOT_FOUND);
+
+        // The idempotency window is per department, so a repeated review is rejected department by department
+        SalaryReviewResponse second = salaryReviewService.review(request);
+
+        assertThat(second.getDepartmentsAdjusted()).isZero();
+        assertThat(second.getResults().subList(0, 6)).extracting(SalaryReviewResult::getStatus)
+                .containsOnly(SalaryReviewResult.Status.CONFLICT);
+    }
+
+    // Only the idempotency conflict is a CONFLICT; any other IllegalStateException is an unexpected failure
+    @Test
+    void unexpectedErrorsAreReportedAsFailed() {
+        Department failing = seedDepartment("RV-FAIL", 2);
+        Department healthy = seedDepartment("RV-OK", 2);
+        doThrow(new IllegalStateException("Connection is closed")).when(employeeService)
+                .adjustSalaries(argThat((SalaryAdjustmentRequest adjustment) ->
+                        adjustment.getDepartmentId().equals(failing.getId())));
+
+        SalaryReviewResponse response = salaryReviewService.review(SalaryReviewRequest.builder()
+                .departments(List.of(
+                        SalaryAdjustmentRequest.builder().departmentId(failing.getId()).performanceScore(95).build(),
+                        SalaryAdjustmentRequest.builder().departmentId(healthy.getId()).performanceScore(95).build()))
+                .build());
+
+        assertThat(response.getResults()).extracting(SalaryReviewResult::getStatus)
+                .containsExactly(SalaryReviewResult.Status.FAILED, SalaryReviewResult.Status.ADJUSTED);
+        assertThat(response.getResults().get(0).getError()).isEqualTo("Connection is closed");
+    }
+
+    @Test
+    void reviewBulkFlagAppliesToListedDepartments() {
+        Department listed = seedDepartment("RV-BULK", 2);
+
+        salaryReviewService.review(SalaryReviewRequest.builder()
+                .departments(List.of(
+                        SalaryAdjustmentRequest.builder().departmentId(listed.getId()).performanceScore(95).build()))
+                .bulk(true)
+                .build());
+
+        verify(employeeService).adjustSalaries(argThat((SalaryAdjustmentRequest adjustment) ->
+                adjustment.getDepartmentId().equals(listed.getId()) && adjustment.isBulk()));
+    }
+
+    @Test
+    void rejectsDepartmentsListedTwice() {
+        SalaryAdjustmentRequest adjustment = SalaryAdjustmentRequest.builder().departmentId(1L).performanceScore(95).build();
+
+        assertThatThrownBy(() -> salaryReviewService.review(
+                SalaryReviewRequest.builder().departments(List.of(adjustment, adjustment)).build()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Department seedDepartment(String code, int employees) {
+        Department department = departmentRepository.save(
+                Department.builder().name("Department " + code).code(code).build());
+        List<Employee> rows = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            rows.add(Employee.builder()
+                    .name("Employee " + i)
+                    .email("employee" + i + "@" + code.toLowerCase() + ".example.com")
+                    .salary(new BigDecimal("50000.00"))
+                    .joiningDate(LocalDate.now().minusYears(1))
+                    .department(department)
+                    .build());
+        }
+        employeeRepository.saveAll(rows);
+        return department;
+    }
+}
@@ -0,0 +1,74 @@
+package com.codegic.departmentManagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalaryRulesTests {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 2, 28);
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 95, 90, 89, 75, 70, 69, 0})
+    void matchesTheBigDecimalFormulaStoredAsNumeric(int performanceScore) {
+        SalaryRules.Run run = SalaryRules.DEFAULT.forRun(performanceScore, AS_OF);
+        Random random = new Random(performanceScore);
+
+        for (int i = 0; i < 200_000; i++) {
+            long cents = i < 1000 ? i + 1 : 1 + (long) (random.nextDouble() * 30_000_000L);
+            LocalDate joiningDate = AS_OF.minusDays(random.nextInt(4000));
+            BigDecimal salary = BigDecimal.valueOf(cents, 2);
+
+            long raised = run.raisedCents(cents, run.isTenured(joiningDate.toEpochDay()));
+            BigDecimal expected = reference(salary, joiningDate, performanceScore);
+
+            if (expected == null) {
+                assertThat(raised).as("salary %s joined %s", salary, joiningDate).isEqualTo(SalaryRules.NO_RAISE);
+            } else {
+                assertThat(SalaryRules.fromCents(raised)).as("salary %s joined %s", salary, joiningDate)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void arrayPassMatchesPerEmployeeEvaluation() {
+        SalaryRules.Run run = SalaryRules.DEFAULT.forRun(95, AS_OF);
+        long[] salaries = {4_500_000, 3_333_333, 18_000_000, 20_000_000, 25_000_000};
+        long[] joined = {
+                AS_OF.minusYears(1).toEpochDay(),
+                AS_OF.minusYears(6).toEpochDay(),
+                AS_OF.minusYears(6).plusDays(1).toEpochDay(),
+                AS_OF.minusYears(2).toEpochDay(),
+                AS_OF.minusYears(20).toEpochDay()
+        };
+        long[] raised = new long[salaries.length];
+
+        int raises = run.apply(salaries, joined, raised);
+
+        assertThat(raised).containsExactly(5_175_000, 4_000_000, 20_000_000, SalaryRules.NO_RAISE, SalaryRules.NO_RAISE);
+        assertThat(raises).isEqualTo(3);
+    }
+
+    // The rule as it was written with BigDecimal, rounded the way NUMERIC(15,2) stores it; null means no raise
+    private static BigDecimal reference(BigDecimal salary, LocalDate joiningDate, int performanceScore) {
+        int percent = performanceScore >= 90 ? 15 : performanceScore >= 70 ? 10 : 0;
+        if (ChronoUnit.YEARS.between(joiningDate, AS_OF) > 5) {
+            percent += 5;
+        }
+        BigDecimal raised = salary.multiply(BigDecimal.ONE.add(
+                BigDecimal.valueOf(percent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)));
+        if (raised.compareTo(BigDecimal.valueOf(200_000)) > 0) {
+            raised = BigDecimal.valueOf(200_000);
+        }
+        return raised.compareTo(salary) > 0 ? raised.setScale(2, RoundingMode.HALF_UP) : null;
+    }
+}
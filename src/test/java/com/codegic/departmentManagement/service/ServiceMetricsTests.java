@@ -0,0 +1,75 @@
+package com.codegic.departmentManagement.service;
+
+import com.codegic.departmentManagement.dto.DepartmentRequest;
+import com.codegic.departmentManagement.dto.EmployeeRequest;
+import com.codegic.departmentManagement.dto.SalaryAdjustmentRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ServiceMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void servicesAdjustmentsHibernateAndHikariArePublishedForPrometheus() throws Exception {
+        Long department = departmentService.createDepartment(
+                DepartmentRequest.builder().name("Metrics").code("MET").build()).getId();
+        for (int i = 0; i < 3; i++) {
+            employeeService.createEmployee(EmployeeRequest.builder()
+                    .name("Metrics " + i)
+                    .email("metrics" + i + "@example.com")
+                    .salary(new BigDecimal("50000.00"))
+                    .joiningDate(LocalDate.now().minusYears(1))
+                    .departmentId(department)
+                    .build());
+        }
+        employeeService.adjustSalaries(SalaryAdjustmentRequest.builder()
+                .departmentId(department).performanceScore(95).bulk(true).build());
+
+        assertThat(meterRegistry.get(ServiceMetrics.TIMER)
+                .tag("class", EmployeeService.class.getName())
+                .tag("method", "createEmployee")
+                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("salary.adjustment.rows")
+                .tag("mode", "bulk").tag("result", "updated")
+                .counter().count()).isGreaterThanOrEqualTo(3);
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(scrape)
+                .contains("app_service_seconds_bucket")
+                .contains("salary_adjustment_rows_total")
+                .contains("hibernate_statements_total")
+                .contains("hikaricp_connections_active");
+    }
+}
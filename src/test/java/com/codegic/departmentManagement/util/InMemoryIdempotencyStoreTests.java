@@ -0,0 +1,120 @@
+package com.codegic.departmentManagement.util;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTests {
+
+    private static final Duration WINDOW = Duration.ofMinutes(30);
+
+    @Test
+    void concurrentClaimsSucceedOncePerDepartment() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(WINDOW, Clock.systemUTC());
+        int departments = 8;
+        int attemptsPerDepartment = 500;
+
+        Map<Long, AtomicInteger> granted = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < departments * attemptsPerDepartment; i++) {
+            long departmentId = i % departments;
+            tasks.add(() -> {
+                start.await();
+                if (store.canAdjust(departmentId)) {
+                    granted.computeIfAbsent(departmentId, id -> new AtomicInteger()).incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(granted).hasSize(departments);
+        assertThat(granted.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+    }
+
+    @Test
+    void claimIsGrantedAgainOnceTheWindowHasPassed() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(WINDOW, clock);
+
+        assertThat(store.canAdjust(1L)).isTrue();
+        clock.advance(WINDOW);
+        assertThat(store.canAdjust(1L)).isFalse();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(store.canAdjust(1L)).isTrue();
+    }
+
+    @Test
+    void storedResultsExpireAndArePurged() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(WINDOW, clock);
+        SalaryAdjustmentResponse result = new SalaryAdjustmentResponse(1L, 3, 2);
+
+        store.saveResult("key-1", result);
+        assertThat(store.findResult("key-1")).containsSame(result);
+
+        clock.advance(WINDOW.plusSeconds(1));
+        store.purgeExpired();
+        assertThat(store.findResult("key-1")).isEmpty();
+        assertThat(store.canAdjust(1L)).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.codegic.departmentManagement.util;
+
+import com.codegic.departmentManagement.dto.SalaryAdjustmentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the production migration against embedded H2 in PostgreSQL mode, which understands ON CONFLICT DO NOTHING
+@JdbcTest(properties = {
+        "app.idempotency.store=jdbc",
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:idempotency;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcIdempotencyStore.class)
+@Sql(scripts = "/db/migration/V1_1__salary_adjustment_idempotency.sql",
+        statements = {"DELETE FROM salary_adjustment_locks", "DELETE FROM salary_adjustment_results"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcIdempotencyStoreTests {
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Test
+    void concurrentClaimsSucceedOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Callable<Boolean> claim = () -> {
+                    start.await();
+                    return store.canAdjust(42L);
+                };
+                futures.add(pool.submit(claim));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    granted++;
+                }
+            }
+            assertThat(granted).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void claimsAreIndependentPerDepartment() {
+        assertThat(store.canAdjust(1L)).isTrue();
+        assertThat(store.canAdjust(2L)).isTrue();
+        assertThat(store.canAdjust(1L)).isFalse();
+    }
+
+    @Test
+    void savedResultIsReturnedForTheSameKey() {
+        SalaryAdjustmentResponse result = new SalaryAdjustmentResponse(7L, 10, 4);
+
+        store.saveResult("retry-key", result);
+        store.saveResult("retry-key", new SalaryAdjustmentResponse(7L, 0, 14));
+
+        assertThat(store.findResult("retry-key")).hasValueSatisfying(stored -> {
+            assertThat(stored.getDepartmentId()).isEqualTo(7L);
+            assertThat(stored.getRowsUpdated()).isEqualTo(10);
+            assertThat(stored.getRowsSkipped()).isEqualTo(4);
+        });
+        assertThat(store.findResult("unknown-key")).isEmpty();
+    }
+}